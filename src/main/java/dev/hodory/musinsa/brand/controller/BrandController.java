@@ -1,10 +1,13 @@
 package dev.hodory.musinsa.brand.controller;
 
 import dev.hodory.musinsa.brand.domain.dto.BrandDTO;
-import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.brand.domain.dto.BrandDeletionJobDTO;
+import dev.hodory.musinsa.brand.service.BrandDeletionService;
 import dev.hodory.musinsa.brand.service.BrandService;
 import dev.hodory.musinsa.common.dto.ResponseDTO;
+import dev.hodory.musinsa.common.version.CatalogVersioned;
 import jakarta.validation.Valid;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class BrandController {
 
     private final BrandService brandService;
+    private final BrandDeletionService brandDeletionService;
 
     @PostMapping
     public ResponseEntity<ResponseDTO> addBrand(
@@ -30,13 +35,27 @@ public class BrandController {
     }
 
     @PutMapping("/{id}")
+    @CatalogVersioned
     public ResponseEntity<ResponseDTO> updateBrand(@PathVariable Long id,
         @RequestBody @Valid BrandDTO.Request request) {
         return ResponseEntity.ok(ResponseDTO.of(brandService.updateBrand(id, request)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<ResponseDTO> deleteBrand(@PathVariable Long id) {
+    @CatalogVersioned
+    public ResponseEntity<ResponseDTO> deleteBrand(@PathVariable Long id,
+        @RequestParam(value = "async", defaultValue = "false") boolean async) {
+        if (async) {
+            final BrandDeletionJobDTO job = brandDeletionService.submit(id);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/brands/deletion-jobs/" + job.getJobId()))
+                .body(ResponseDTO.of(job));
+        }
         return ResponseEntity.ok(ResponseDTO.of(brandService.deleteById(id)));
     }
+
+    @GetMapping("/deletion-jobs/{jobId}")
+    public ResponseEntity<ResponseDTO> getDeletionJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ResponseDTO.of(brandDeletionService.getJob(jobId)));
+    }
 }
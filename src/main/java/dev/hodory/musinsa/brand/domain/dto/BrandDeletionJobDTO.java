@@ -0,0 +1,51 @@
+package dev.hodory.musinsa.brand.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.hodory.musinsa.brand.domain.job.BrandDeletionJob;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BrandDeletionJobDTO {
+
+    @JsonProperty("job_id")
+    private String jobId;
+    @JsonProperty("brand_id")
+    private Long brandId;
+    private String status;
+    @JsonProperty("deleted_products")
+    private long deletedProducts;
+    @JsonProperty("requested_at")
+    private LocalDateTime requestedAt;
+    @JsonProperty("finished_at")
+    private LocalDateTime finishedAt;
+    private String message;
+
+    @Builder
+    private BrandDeletionJobDTO(String jobId, Long brandId, String status, long deletedProducts,
+        LocalDateTime requestedAt, LocalDateTime finishedAt, String message) {
+        this.jobId = jobId;
+        this.brandId = brandId;
+        this.status = status;
+        this.deletedProducts = deletedProducts;
+        this.requestedAt = requestedAt;
+        this.finishedAt = finishedAt;
+        this.message = message;
+    }
+
+    public static BrandDeletionJobDTO of(BrandDeletionJob job) {
+        return BrandDeletionJobDTO.builder()
+            .jobId(job.getId())
+            .brandId(job.getBrandId())
+            .status(job.getStatus().name())
+            .deletedProducts(job.getDeletedProducts())
+            .requestedAt(job.getRequestedAt())
+            .finishedAt(job.getFinishedAt())
+            .message(job.getMessage())
+            .build();
+    }
+}
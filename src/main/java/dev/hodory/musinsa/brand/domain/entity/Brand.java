@@ -1,14 +1,10 @@
 package dev.hodory.musinsa.brand.domain.entity;
 
-import dev.hodory.musinsa.product.domain.entity.Product;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.OneToMany;
-import java.util.ArrayList;
-import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,9 +23,6 @@ public class Brand {
     @Column(name = "name")
     private String name;
 
-    @OneToMany(mappedBy = "brand", orphanRemoval = true)
-    private final List<Product> product = new ArrayList<>();
-
     @Builder
     private Brand(Long id, String name) {
         this.id = id;
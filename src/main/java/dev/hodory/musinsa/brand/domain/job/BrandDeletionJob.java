@@ -0,0 +1,75 @@
+package dev.hodory.musinsa.brand.domain.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * 비동기로 실행되는 브랜드 삭제 작업의 진행 상태입니다.
+ */
+@Getter
+public class BrandDeletionJob {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final String id;
+    private final Long brandId;
+    private final LocalDateTime requestedAt;
+    private final AtomicLong deletedProducts = new AtomicLong();
+    private volatile Status status = Status.PENDING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+
+    public BrandDeletionJob(Long brandId) {
+        this.id = UUID.randomUUID().toString();
+        this.brandId = brandId;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    public long getDeletedProducts() {
+        return deletedProducts.get();
+    }
+
+    public void start() {
+        this.status = Status.RUNNING;
+    }
+
+    public void addDeletedProducts(long count) {
+        deletedProducts.addAndGet(count);
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.finishedAt = LocalDateTime.now();
+        this.message = message;
+        this.status = Status.FAILED;
+    }
+
+    /**
+     * 완료되었거나 실패한 작업인지 확인합니다.
+     *
+     * @return 종료 여부
+     */
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    /**
+     * 종료된 뒤 보관 기간이 지난 작업인지 확인합니다.
+     *
+     * @return 보관 기간이 지났는지 여부
+     */
+    public boolean isExpired() {
+        return finishedAt != null && finishedAt.plus(RETENTION).isBefore(LocalDateTime.now());
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,10 @@
+package dev.hodory.musinsa.brand.event;
+
+import dev.hodory.musinsa.common.event.DomainEvent;
+
+/**
+ * 브랜드가 삭제된 경우입니다. 삭제된 상품은 앞서 발행된 {@link BrandProductsDeleted}에 담깁니다.
+ */
+public record BrandDeleted(Long brandId, String name) implements DomainEvent {
+
+}
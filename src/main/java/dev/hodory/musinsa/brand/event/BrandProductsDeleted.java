@@ -0,0 +1,13 @@
+package dev.hodory.musinsa.brand.event;
+
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import java.util.List;
+
+/**
+ * 브랜드 삭제 중 한 번의 DELETE 쿼리로 삭제된 상품의 카테고리, 가격별 개수입니다.
+ */
+public record BrandProductsDeleted(Long brandId, List<ProductPriceCount> removedProducts)
+    implements DomainEvent {
+
+}
@@ -0,0 +1,7 @@
+package dev.hodory.musinsa.brand.event;
+
+import dev.hodory.musinsa.common.event.DomainEvent;
+
+public record BrandRenamed(Long brandId, String oldName, String newName) implements DomainEvent {
+
+}
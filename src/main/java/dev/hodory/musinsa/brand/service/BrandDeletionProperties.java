@@ -0,0 +1,16 @@
+package dev.hodory.musinsa.brand.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.brand.deletion")
+public class BrandDeletionProperties {
+
+    /**
+     * 한 번의 DELETE 쿼리로 삭제할 최대 상품 수
+     */
+    private int chunkSize = 1000;
+}
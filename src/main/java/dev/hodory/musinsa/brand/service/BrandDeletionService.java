@@ -0,0 +1,211 @@
+package dev.hodory.musinsa.brand.service;
+
+import dev.hodory.musinsa.brand.domain.dto.BrandDeletionJobDTO;
+import dev.hodory.musinsa.brand.domain.job.BrandDeletionJob;
+import dev.hodory.musinsa.brand.domain.entity.Brand;
+import dev.hodory.musinsa.brand.event.BrandDeleted;
+import dev.hodory.musinsa.brand.event.BrandProductsDeleted;
+import dev.hodory.musinsa.brand.repository.BrandRepository;
+import dev.hodory.musinsa.common.cache.CacheVersionService;
+import dev.hodory.musinsa.common.event.DomainEventPublisher;
+import dev.hodory.musinsa.config.CacheConfig;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 브랜드의 상품을 엔티티로 로딩하지 않고 chunk 단위 DELETE 쿼리로 삭제합니다.
+ * 각 chunk는 (brand_id, id) 인덱스에서 이전 chunk의 마지막 상품 ID 다음부터 조회합니다.
+ */
+@Slf4j
+@Service
+public class BrandDeletionService {
+
+    private final BrandRepository brandRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final CacheManager cacheManager;
+    private final DomainEventPublisher domainEventPublisher;
+    private final CacheVersionService cacheVersionService;
+    private final int chunkSize;
+    private final Map<String, BrandDeletionJob> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, BrandDeletionJob> activeJobs = new ConcurrentHashMap<>();
+
+    public BrandDeletionService(BrandRepository brandRepository,
+        ProductRepository productRepository, TransactionTemplate transactionTemplate,
+        @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+        CacheManager cacheManager, DomainEventPublisher domainEventPublisher,
+        CacheVersionService cacheVersionService, BrandDeletionProperties properties) {
+        this.brandRepository = brandRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.cacheManager = cacheManager;
+        this.domainEventPublisher = domainEventPublisher;
+        this.cacheVersionService = cacheVersionService;
+        this.chunkSize = properties.getChunkSize();
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 브랜드의 모든 상품을 chunk 단위로 삭제합니다.
+     *
+     * @param brandId 브랜드 ID
+     * @return 삭제된 상품 수
+     */
+    public long deleteProducts(Long brandId) {
+        long deleted = 0;
+        long afterId = 0;
+        List<Long> chunk;
+        do {
+            chunk = deleteChunk(brandId, afterId);
+            deleted += chunk.size();
+            afterId = lastId(afterId, chunk);
+        } while (chunk.size() == chunkSize);
+        return deleted;
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 브랜드의 상품을 모두 삭제한 뒤 브랜드를 삭제합니다.
+     *
+     * @param brand 브랜드
+     * @return 삭제된 상품 수
+     */
+    public long deleteBrand(Brand brand) {
+        final long deleted = deleteProducts(brand.getId());
+        brandRepository.delete(brand);
+        domainEventPublisher.publish(new BrandDeleted(brand.getId(), brand.getName()));
+        return deleted;
+    }
+
+    /**
+     * 브랜드의 상품을 chunk 마다 별도의 트랜잭션으로 삭제한 뒤, 마지막 트랜잭션에서 그 사이 추가된 상품과 브랜드를
+     * 삭제합니다. 한 트랜잭션이 브랜드의 모든 상품을 잠그지 않도록 동기 삭제 API도 이 경로로 삭제합니다.
+     *
+     * @param brandId 브랜드 ID
+     * @return 삭제된 상품 수
+     */
+    public long deleteInChunks(Long brandId) {
+        return deleteInChunks(brandId, deleted -> {
+        });
+    }
+
+    /**
+     * 브랜드 삭제 작업을 비동기로 실행합니다. chunk 마다 별도의 트랜잭션으로 삭제하여 트랜잭션을 짧게 유지합니다.
+     * 같은 브랜드의 작업이 이미 진행 중이면 새로 실행하지 않고 진행 중인 작업을 반환합니다.
+     *
+     * @param brandId 브랜드 ID
+     * @return 작업 정보
+     */
+    public BrandDeletionJobDTO submit(Long brandId) {
+        if (!brandRepository.existsById(brandId)) {
+            throw new EntityNotFoundException("해당 브랜드를 찾을 수 없습니다.");
+        }
+
+        final BrandDeletionJob created = new BrandDeletionJob(brandId);
+        final BrandDeletionJob job = activeJobs.compute(brandId,
+            (id, active) -> active == null || active.isFinished() ? created : active);
+        if (job == created) {
+            jobs.put(job.getId(), job);
+            taskExecutor.execute(() -> run(job));
+        }
+        return BrandDeletionJobDTO.of(job);
+    }
+
+    /**
+     * 종료된 뒤 보관 기간이 지난 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${musinsa.brand.deletion.job-purge-interval:10m}")
+    public void purgeExpiredJobs() {
+        jobs.values().removeIf(BrandDeletionJob::isExpired);
+        activeJobs.values().removeIf(BrandDeletionJob::isExpired);
+    }
+
+    /**
+     * 브랜드 삭제 작업의 진행 상태를 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 정보
+     */
+    public BrandDeletionJobDTO getJob(String jobId) {
+        final BrandDeletionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("해당 작업을 찾을 수 없습니다.");
+        }
+        return BrandDeletionJobDTO.of(job);
+    }
+
+    private void run(BrandDeletionJob job) {
+        job.start();
+        try {
+            deleteInChunks(job.getBrandId(), job::addDeletedProducts);
+            job.complete();
+        } catch (RuntimeException e) {
+            log.warn("브랜드 삭제 작업이 실패했습니다. brandId={}", job.getBrandId(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private long deleteInChunks(Long brandId, LongConsumer progress) {
+        long deleted = 0;
+        long afterId = 0;
+        List<Long> chunk;
+        do {
+            final long lastId = afterId;
+            final List<Long> ids = transactionTemplate.execute(
+                status -> deleteChunk(brandId, lastId));
+            chunk = ids == null ? List.of() : ids;
+            deleted += chunk.size();
+            progress.accept(chunk.size());
+            afterId = lastId(afterId, chunk);
+        } while (chunk.size() == chunkSize);
+
+        // 작업 중 추가된 상품까지 정리한 뒤 브랜드를 삭제합니다.
+        final Long remaining = transactionTemplate.execute(status -> {
+            final Brand brand = brandRepository.findById(brandId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 브랜드를 찾을 수 없습니다."));
+            final long removed = deleteBrand(brand);
+            evictLowestPriceBasket();
+            return removed;
+        });
+        final long removed = remaining == null ? 0 : remaining;
+        progress.accept(removed);
+        return deleted + removed;
+    }
+
+    private static long lastId(long afterId, List<Long> ids) {
+        return ids.isEmpty() ? afterId : ids.get(ids.size() - 1);
+    }
+
+    private void evictLowestPriceBasket() {
+        final Cache cache = cacheManager.getCache(CacheConfig.LOWEST_PRICE_BASKET);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private List<Long> deleteChunk(Long brandId, long afterId) {
+        final List<Long> ids = productRepository.findIdsByBrandId(brandId, afterId, chunkSize);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        final List<ProductPriceCount> priceCounts = productRepository.findPriceCountsByIdIn(ids);
+        productRepository.deleteAllByIdIn(ids);
+        domainEventPublisher.publish(new BrandProductsDeleted(brandId, priceCounts));
+        cacheVersionService.bump(priceCounts.stream().map(ProductPriceCount::getCategory).toList());
+        return ids;
+    }
+}
@@ -3,9 +3,14 @@ package dev.hodory.musinsa.brand.service;
 import dev.hodory.musinsa.brand.domain.dto.BrandDTO;
 import dev.hodory.musinsa.brand.domain.dto.BrandDTO.Request;
 import dev.hodory.musinsa.brand.domain.entity.Brand;
+import dev.hodory.musinsa.brand.event.BrandRenamed;
 import dev.hodory.musinsa.brand.repository.BrandRepository;
+import dev.hodory.musinsa.common.cache.CacheVersionService;
+import dev.hodory.musinsa.common.event.DomainEventPublisher;
+import dev.hodory.musinsa.config.CacheConfig;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class BrandService {
 
     private final BrandRepository brandRepository;
+    private final BrandDeletionService brandDeletionService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final CacheVersionService cacheVersionService;
 
     @Transactional(rollbackFor = RuntimeException.class)
     public BrandDTO addBrand(Request request) {
@@ -28,6 +36,7 @@ public class BrandService {
         return BrandDTO.of(brandRepository.save(request.toEntity()));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.LOWEST_PRICE_BASKET, allEntries = true)
     @Transactional(rollbackFor = RuntimeException.class)
     public BrandDTO updateBrand(Long brandId, BrandDTO.Request data) {
         if (data.getName() == null || data.getName().isBlank()) {
@@ -40,15 +49,24 @@ public class BrandService {
             throw new IllegalArgumentException("이미 존재하는 브랜드명입니다.");
         }
 
+        final String oldName = brand.getName();
         brand.updateName(data.getName());
+        domainEventPublisher.publish(new BrandRenamed(brandId, oldName, brand.getName()));
+        cacheVersionService.bumpAll();
         return BrandDTO.of(brandRepository.save(brand));
     }
 
-    @Transactional(rollbackFor = RuntimeException.class)
+    /**
+     * 브랜드와 브랜드의 상품을 삭제합니다. 상품은 chunk 마다 별도의 트랜잭션으로 삭제하며, 캐시는 브랜드를 삭제하는
+     * 마지막 트랜잭션이 커밋된 뒤 삭제됩니다.
+     *
+     * @param brandId 브랜드 ID
+     * @return 삭제된 브랜드
+     */
     public BrandDTO deleteById(Long brandId) {
         final Brand brand = getBrand(brandId);
 
-        brandRepository.deleteById(brandId);
+        brandDeletionService.deleteInChunks(brandId);
         return BrandDTO.of(brand);
     }
 
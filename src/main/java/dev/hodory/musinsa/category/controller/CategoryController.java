@@ -0,0 +1,25 @@
+package dev.hodory.musinsa.category.controller;
+
+import dev.hodory.musinsa.category.domain.dto.CategoryPriceStatsDTO;
+import dev.hodory.musinsa.category.service.CategoryPriceStatsService;
+import dev.hodory.musinsa.common.dto.ResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryPriceStatsService categoryPriceStatsService;
+
+    @GetMapping("/{code}/stats")
+    public ResponseEntity<ResponseDTO> getStats(@PathVariable String code) {
+        final CategoryPriceStatsDTO stats = categoryPriceStatsService.getStats(code);
+        return ResponseEntity.ok(ResponseDTO.of(stats));
+    }
+}
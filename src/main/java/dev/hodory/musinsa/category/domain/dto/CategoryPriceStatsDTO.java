@@ -0,0 +1,78 @@
+package dev.hodory.musinsa.category.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.category.domain.stats.CategoryPriceStats;
+import dev.hodory.musinsa.category.domain.stats.CategoryPriceStats.Snapshot;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryPriceStatsDTO {
+
+    private String category;
+    private long count;
+    private long sum;
+    private Long min;
+    private Long max;
+    private Double average;
+    private List<Bucket> histogram = new ArrayList<>();
+
+    @Builder
+    private CategoryPriceStatsDTO(String category, long count, long sum, Long min, Long max,
+        Double average, List<Bucket> histogram) {
+        this.category = category;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.average = average;
+        this.histogram = histogram;
+    }
+
+    public static CategoryPriceStatsDTO of(CategoryInfo category, Snapshot snapshot) {
+        final long[] bounds = CategoryPriceStats.HISTOGRAM_BOUNDS;
+        final List<Bucket> histogram = new ArrayList<>(bounds.length);
+        for (int i = 0; i < bounds.length; i++) {
+            histogram.add(Bucket.builder()
+                .from(bounds[i])
+                .to(i + 1 < bounds.length ? bounds[i + 1] : null)
+                .count(snapshot.histogram()[i])
+                .build());
+        }
+
+        return CategoryPriceStatsDTO.builder()
+            .category(category.getTitle())
+            .count(snapshot.count())
+            .sum(snapshot.sum())
+            .min(snapshot.min())
+            .max(snapshot.max())
+            .average(snapshot.average())
+            .histogram(histogram)
+            .build();
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Bucket {
+
+        @JsonProperty("from")
+        private long from;
+        @JsonProperty("to")
+        private Long to;
+        @JsonProperty("count")
+        private long count;
+
+        @Builder
+        private Bucket(long from, Long to, long count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package dev.hodory.musinsa.category.domain.enums;
 
+import java.util.Collection;
+import java.util.EnumSet;
 import lombok.Getter;
 
 public enum CategoryInfo {
@@ -13,6 +15,45 @@ public enum CategoryInfo {
         this.title = title;
     }
 
+    /**
+     * 카테고리 조합을 비트마스크로 표현할 때 사용하는 비트입니다.
+     *
+     * @return ordinal 위치의 비트
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 카테고리 조합의 비트마스크를 계산합니다.
+     *
+     * @param categories 카테고리 조합
+     * @return 비트마스크
+     */
+    public static int maskOf(Collection<CategoryInfo> categories) {
+        int mask = 0;
+        for (CategoryInfo category : categories) {
+            mask |= category.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크가 나타내는 카테고리 조합을 반환합니다.
+     *
+     * @param mask 비트마스크
+     * @return 카테고리 조합
+     */
+    public static EnumSet<CategoryInfo> fromMask(int mask) {
+        final EnumSet<CategoryInfo> categories = EnumSet.noneOf(CategoryInfo.class);
+        for (CategoryInfo category : values()) {
+            if ((mask & category.bit()) != 0) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
     public static CategoryInfo findByCode(String code) {
         for (CategoryInfo categories : CategoryInfo.values()) {
             if (categories.name().equals(code)) {
@@ -0,0 +1,92 @@
+package dev.hodory.musinsa.category.domain.stats;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * 카테고리 상품 가격의 개수, 합계, 최저가, 최고가, 히스토그램을 증분으로 유지합니다.
+ * 상품이 추가, 삭제될 때마다 갱신하므로 조회할 때 상품을 다시 읽지 않습니다.
+ */
+public class CategoryPriceStats {
+
+    /**
+     * 히스토그램 구간의 시작 가격입니다. i번째 구간은 [BOUNDS[i], BOUNDS[i + 1]) 이고 마지막 구간은 상한이 없습니다.
+     */
+    public static final long[] HISTOGRAM_BOUNDS = {0, 1_000, 2_000, 5_000, 10_000, 20_000, 50_000,
+        100_000};
+
+    private final TreeMap<Long, Long> priceCounts = new TreeMap<>();
+    private final long[] histogram = new long[HISTOGRAM_BOUNDS.length];
+    private long count;
+    private long sum;
+    private Long min;
+    private Long max;
+
+    public synchronized void add(long price, long quantity) {
+        priceCounts.merge(price, quantity, Long::sum);
+        histogram[bucketOf(price)] += quantity;
+        count += quantity;
+        sum += price * quantity;
+        min = min == null ? price : Math.min(min, price);
+        max = max == null ? price : Math.max(max, price);
+    }
+
+    public synchronized void remove(long price, long quantity) {
+        final Long current = priceCounts.get(price);
+        if (current == null) {
+            return;
+        }
+
+        final long removed = Math.min(current, quantity);
+        histogram[bucketOf(price)] -= removed;
+        count -= removed;
+        sum -= price * removed;
+
+        if (current > removed) {
+            priceCounts.put(price, current - removed);
+            return;
+        }
+
+        // 해당 가격의 상품이 모두 삭제되었고 그 가격이 최저가, 최고가였을 때만 다음 가격을 찾습니다.
+        priceCounts.remove(price);
+        if (price == min) {
+            min = priceCounts.isEmpty() ? null : priceCounts.firstKey();
+        }
+        if (price == max) {
+            max = priceCounts.isEmpty() ? null : priceCounts.lastKey();
+        }
+    }
+
+    /**
+     * 같은 값을 가진 새 통계를 만듭니다. 사본을 변경해도 원본은 바뀌지 않습니다.
+     */
+    public synchronized CategoryPriceStats copy() {
+        final CategoryPriceStats copy = new CategoryPriceStats();
+        copy.priceCounts.putAll(priceCounts);
+        System.arraycopy(histogram, 0, copy.histogram, 0, histogram.length);
+        copy.count = count;
+        copy.sum = sum;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(count, sum, min, max, histogram.clone());
+    }
+
+    private static int bucketOf(long price) {
+        final int index = Arrays.binarySearch(HISTOGRAM_BOUNDS, price);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    /**
+     * 특정 시점의 통계 값입니다.
+     */
+    public record Snapshot(long count, long sum, Long min, Long max, long[] histogram) {
+
+        public Double average() {
+            return count == 0 ? null : (double) sum / count;
+        }
+    }
+}
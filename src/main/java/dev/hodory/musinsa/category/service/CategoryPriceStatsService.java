@@ -0,0 +1,163 @@
+package dev.hodory.musinsa.category.service;
+
+import dev.hodory.musinsa.category.domain.dto.CategoryPriceStatsDTO;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.brand.event.BrandProductsDeleted;
+import dev.hodory.musinsa.category.domain.stats.CategoryPriceStats;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.common.event.DomainEventListener;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.event.ProductDeleted;
+import dev.hodory.musinsa.product.event.ProductMoved;
+import dev.hodory.musinsa.product.event.ProductPriceChanged;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카테고리별 가격 통계를 메모리에 유지합니다.
+ * outbox 릴레이가 시작할 때 한 번 집계하고, 이후에는 outbox의 도메인 이벤트로 증분 갱신합니다.
+ * 통계에 반영된 outbox 위치를 함께 기록하여, 이미 반영된 이벤트나 더 오래된 집계로 통계를 덮어쓰지 않습니다.
+ *
+ * <p>이벤트는 변경되는 카테고리 통계의 사본에 반영한 뒤 위치와 함께 한 번에 교체합니다. 배치 도중 실패하면 통계와 위치가
+ * 모두 그대로 남으므로, 릴레이가 같은 배치를 다시 전달해도 앞의 이벤트를 두 번 반영하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryPriceStatsService implements DomainEventListener {
+
+    private final ProductRepository productRepository;
+    private final Object lock = new Object();
+    private volatile Map<CategoryInfo, CategoryPriceStats> stats = emptyStats();
+    private long version = -1L;
+
+    private static Map<CategoryInfo, CategoryPriceStats> emptyStats() {
+        final Map<CategoryInfo, CategoryPriceStats> stats = new EnumMap<>(CategoryInfo.class);
+        for (CategoryInfo category : CategoryInfo.values()) {
+            stats.put(category, new CategoryPriceStats());
+        }
+        return stats;
+    }
+
+    /**
+     * 브랜드, 카테고리, 가격별 상품 수를 집계하여 통계를 다시 만듭니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void load(long loadedVersion) {
+        final Map<CategoryInfo, CategoryPriceStats> loaded = emptyStats();
+        final List<ProductPriceCount> priceCounts = productRepository.findPriceCounts();
+        for (ProductPriceCount priceCount : priceCounts) {
+            loaded.get(priceCount.getCategory())
+                .add(priceCount.getPrice(), priceCount.getCount());
+        }
+
+        synchronized (lock) {
+            if (loadedVersion <= version) {
+                log.info("더 최신 통계가 있어 집계 결과를 버립니다. loaded={}, current={}", loadedVersion,
+                    version);
+                return;
+            }
+            this.stats = loaded;
+            this.version = loadedVersion;
+        }
+        log.info("카테고리 가격 통계를 집계했습니다. rows={}, version={}", priceCounts.size(),
+            loadedVersion);
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        synchronized (lock) {
+            apply(events);
+        }
+    }
+
+    /**
+     * 통계에 이미 반영된 위치까지의 이벤트는 건너뜁니다.
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events, long version) {
+        synchronized (lock) {
+            if (version <= this.version) {
+                return;
+            }
+            apply(events);
+            this.version = version;
+        }
+    }
+
+    private void apply(List<DomainEvent> events) {
+        final StatsUpdate update = new StatsUpdate(stats);
+        for (DomainEvent event : events) {
+            if (event instanceof ProductCreated created) {
+                update.add(created.category(), created.price(), 1);
+            } else if (event instanceof ProductPriceChanged changed) {
+                update.remove(changed.category(), changed.oldPrice(), 1);
+                update.add(changed.category(), changed.newPrice(), 1);
+            } else if (event instanceof ProductMoved moved) {
+                update.remove(moved.oldCategory(), moved.oldPrice(), 1);
+                update.add(moved.newCategory(), moved.newPrice(), 1);
+            } else if (event instanceof ProductDeleted deleted) {
+                update.remove(deleted.category(), deleted.price(), 1);
+            } else if (event instanceof BrandProductsDeleted deleted) {
+                for (ProductPriceCount priceCount : deleted.removedProducts()) {
+                    update.remove(priceCount.getCategory(), priceCount.getPrice(),
+                        priceCount.getCount());
+                }
+            }
+        }
+        this.stats = update.result();
+    }
+
+    /**
+     * 카테고리 가격 통계 조회
+     *
+     * @param code 카테고리 코드
+     * @return 가격 통계
+     */
+    public CategoryPriceStatsDTO getStats(String code) {
+        final CategoryInfo category = CategoryInfo.findByCode(code);
+        return CategoryPriceStatsDTO.of(category, stats.get(category).snapshot());
+    }
+
+    /**
+     * 처음 변경하는 카테고리의 통계만 복사하여, 교체하기 전까지 조회 중인 통계를 바꾸지 않습니다.
+     */
+    private static class StatsUpdate {
+
+        private final Map<CategoryInfo, CategoryPriceStats> next;
+        private final Set<CategoryInfo> copied = EnumSet.noneOf(CategoryInfo.class);
+
+        private StatsUpdate(Map<CategoryInfo, CategoryPriceStats> current) {
+            this.next = new EnumMap<>(current);
+        }
+
+        private void add(CategoryInfo category, long price, long quantity) {
+            writable(category).add(price, quantity);
+        }
+
+        private void remove(CategoryInfo category, long price, long quantity) {
+            writable(category).remove(price, quantity);
+        }
+
+        private CategoryPriceStats writable(CategoryInfo category) {
+            if (copied.add(category)) {
+                next.put(category, next.get(category).copy());
+            }
+            return next.get(category);
+        }
+
+        private Map<CategoryInfo, CategoryPriceStats> result() {
+            return next;
+        }
+    }
+}
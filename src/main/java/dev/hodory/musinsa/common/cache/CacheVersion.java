@@ -0,0 +1,37 @@
+package dev.hodory.musinsa.common.cache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리별 캐시 버전입니다. 상품, 브랜드 변경은 변경된 카테고리의 버전을 같은 트랜잭션에서 올리고, 각 노드는 버전이 바뀐
+ * 카테고리의 로컬 캐시만 삭제합니다.
+ */
+@Getter
+@Entity(name = "cache_version")
+@Table(name = "cache_version")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheVersion {
+
+    /**
+     * 카테고리 코드
+     */
+    @Id
+    @Column(name = "scope", length = 32)
+    private String scope;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Builder
+    private CacheVersion(String scope, long version) {
+        this.scope = scope;
+        this.version = version;
+    }
+}
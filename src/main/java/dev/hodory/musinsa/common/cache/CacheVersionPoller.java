@@ -0,0 +1,71 @@
+package dev.hodory.musinsa.common.cache;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.config.CacheConfig;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 버전 테이블을 주기적으로 읽어, 다른 노드에서 변경된 범위의 로컬 캐시 항목만 삭제합니다.
+ *
+ * <p>{@link CacheConfig#LOWEST_PRICE_BASKET}는 카테고리 조합의 비트마스크가 키이므로, 버전이 바뀐 카테고리를 포함하는
+ * 조합만 삭제합니다. 처음 확인할 때는 이전 버전을 모르므로 모두 삭제합니다.
+ */
+@Slf4j
+@Component
+public class CacheVersionPoller {
+
+    private final CacheVersionRepository cacheVersionRepository;
+    private final CacheManager cacheManager;
+    private Map<String, Long> seen;
+
+    public CacheVersionPoller(CacheVersionRepository cacheVersionRepository,
+        CacheManager cacheManager) {
+        this.cacheVersionRepository = cacheVersionRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    @Scheduled(fixedDelayString = "${musinsa.cache-version.poll-interval:1s}")
+    public synchronized void poll() {
+        final Map<String, Long> current = cacheVersionRepository.findAll().stream()
+            .collect(Collectors.toMap(CacheVersion::getScope, CacheVersion::getVersion));
+
+        if (seen == null) {
+            evict(CategoryInfo.maskOf(EnumSet.allOf(CategoryInfo.class)));
+        } else if (!current.equals(seen)) {
+            int changedMask = 0;
+            for (CategoryInfo category : CategoryInfo.values()) {
+                if (!Objects.equals(current.get(category.name()), seen.get(category.name()))) {
+                    changedMask |= category.bit();
+                }
+            }
+            evict(changedMask);
+            log.debug("캐시 버전이 바뀌어 로컬 캐시를 삭제했습니다. categories={}",
+                Integer.toBinaryString(changedMask));
+        }
+        seen = current;
+    }
+
+    /**
+     * 다른 노드에서 이미 커밋된 변경이므로 트랜잭션과 상관없이 바로 삭제합니다.
+     */
+    private void evict(int changedMask) {
+        Cache cache = cacheManager.getCache(CacheConfig.LOWEST_PRICE_BASKET);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache instanceof CategoryMaskCache categoryMaskCache) {
+            categoryMaskCache.evictCategories(changedMask);
+        } else if (cache != null) {
+            cache.clear();
+        }
+    }
+}
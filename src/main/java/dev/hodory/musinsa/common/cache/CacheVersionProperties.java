@@ -0,0 +1,17 @@
+package dev.hodory.musinsa.common.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.cache-version")
+public class CacheVersionProperties {
+
+    /**
+     * 다른 노드의 변경을 확인하는 주기. 다른 노드에서 변경된 데이터가 로컬 캐시에 남아 있을 수 있는 최대 시간입니다.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+}
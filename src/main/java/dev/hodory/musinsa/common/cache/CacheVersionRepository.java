@@ -0,0 +1,13 @@
+package dev.hodory.musinsa.common.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CacheVersionRepository extends JpaRepository<CacheVersion, String> {
+
+    @Modifying
+    @Query("update cache_version v set v.version = v.version + 1 where v.scope = :scope")
+    int increment(@Param("scope") String scope);
+}
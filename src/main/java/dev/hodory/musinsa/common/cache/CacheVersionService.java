@@ -0,0 +1,37 @@
+package dev.hodory.musinsa.common.cache;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import java.util.Collection;
+import java.util.EnumSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 변경과 같은 트랜잭션에서 캐시 버전을 올립니다. 롤백되면 버전도 그대로이므로 다른 노드의 캐시는 삭제되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheVersionService {
+
+    private final CacheVersionRepository cacheVersionRepository;
+
+    /**
+     * {@code categories}의 버전을 올립니다. 진행 중인 트랜잭션이 있어야 합니다.
+     *
+     * <p>{@code IN} 조건은 행을 잠그는 순서를 정하지 않으므로, 카테고리 순서로 한 행씩 갱신하여 여러 트랜잭션이 같은 순서로
+     * 잠그게 합니다.
+     *
+     * @param categories 변경된 카테고리
+     */
+    public void bump(Collection<CategoryInfo> categories) {
+        categories.stream().distinct().sorted()
+            .forEach(category -> cacheVersionRepository.increment(category.name()));
+    }
+
+    /**
+     * 모든 카테고리에 영향을 주는 변경(브랜드명 변경 등)의 버전을 올립니다.
+     */
+    public void bumpAll() {
+        bump(EnumSet.allOf(CategoryInfo.class));
+    }
+}
@@ -0,0 +1,100 @@
+package dev.hodory.musinsa.common.cache;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+/**
+ * 카테고리 조합의 비트마스크를 키로 사용하는 로컬 캐시입니다.
+ *
+ * <p>카테고리마다 삭제 세대를 두고, 값을 계산하는 동안 키에 포함된 카테고리가 삭제되었으면 계산한 값을 저장하지 않습니다.
+ * 삭제 전에 읽은 데이터로 계산한 값이 삭제 뒤에 저장되어 다음 변경까지 남는 것을 막습니다. 값은
+ * {@code @Cacheable(sync = true)}처럼 {@link #get(Object, Callable)}으로 계산해야 세대를 확인합니다.
+ *
+ * <p>삭제 뒤에 값을 다시 계산하는 조회는 {@link CatalogVersionRequirement#callAtLeastCommitted}로 이 프로세스에서 커밋된
+ * 마지막 변경 이상을 반영한 DB에서 읽습니다. 복제 DB가 삭제를 일으킨 변경을 아직 반영하지 못했으면 원본 DB에서 읽으므로,
+ * 이전 데이터로 계산한 값이 세대 확인을 통과해 다음 변경까지 남지 않습니다.
+ */
+public class CategoryMaskCache extends ConcurrentMapCache {
+
+    private static final int ALL_CATEGORIES = (1 << CategoryInfo.values().length) - 1;
+
+    private final ConcurrentHashMap<Object, Object> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(CategoryInfo.values().length);
+
+    public CategoryMaskCache(String name) {
+        this(name, new ConcurrentHashMap<>());
+    }
+
+    private CategoryMaskCache(String name, ConcurrentHashMap<Object, Object> entries) {
+        super(name, entries, false);
+        this.entries = entries;
+    }
+
+    /**
+     * {@code changedMask}의 카테고리를 하나라도 포함하는 조합을 삭제합니다.
+     *
+     * @param changedMask 변경된 카테고리의 비트마스크
+     */
+    public void evictCategories(int changedMask) {
+        // 계산 중인 값이 삭제 뒤에 저장되지 않도록 세대를 먼저 올립니다.
+        for (CategoryInfo category : CategoryInfo.values()) {
+            if ((changedMask & category.bit()) != 0) {
+                generations.incrementAndGet(category.ordinal());
+            }
+        }
+        entries.keySet().removeIf(key -> !(key instanceof Integer mask) || (mask & changedMask) != 0);
+    }
+
+    @Override
+    public void clear() {
+        evictCategories(ALL_CATEGORIES);
+    }
+
+    @Override
+    public boolean invalidate() {
+        final boolean notEmpty = !entries.isEmpty();
+        clear();
+        return notEmpty;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        final Object cached = entries.get(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+
+        final int mask = key instanceof Integer integer ? integer : ALL_CATEGORIES;
+        final long generation = generation(mask);
+        final T value = CatalogVersionRequirement.callAtLeastCommitted(() -> {
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+
+        final Object stored = toStoreValue(value);
+        if (generation(mask) == generation && entries.putIfAbsent(key, stored) == null
+            && generation(mask) != generation) {
+            // 저장하는 사이에 삭제되었으면 삭제가 지우지 못했을 수 있으므로 직접 지웁니다.
+            entries.remove(key, stored);
+        }
+        return value;
+    }
+
+    private long generation(int mask) {
+        long sum = 0;
+        for (CategoryInfo category : CategoryInfo.values()) {
+            if ((mask & category.bit()) != 0) {
+                sum += generations.get(category.ordinal());
+            }
+        }
+        return sum;
+    }
+}
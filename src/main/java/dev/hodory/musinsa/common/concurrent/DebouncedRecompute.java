@@ -0,0 +1,158 @@
+package dev.hodory.musinsa.common.concurrent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 변경된 키를 모아 두었다가 한 번에 재계산합니다.
+ *
+ * <p>마지막 변경 후 {@code quietPeriod} 동안 변경이 없거나, 처음 변경된 뒤 {@code maxDelay}가 지나면 그때까지 모인 키를
+ * 재계산합니다. 같은 키가 여러 번 변경되어도 한 번만 재계산하며, 재계산은 전용 스레드 하나에서 순서대로 실행됩니다.
+ * 키와 함께 전달한 버전 중 가장 큰 값을 재계산에 넘기며, 재계산이 실패하면 같은 키와 버전으로 다시 예약합니다.
+ * 연속으로 실패하면 다시 시도하기까지 {@code quietPeriod}의 두 배씩, 최대 {@value #MAX_RETRY_DELAY_SECONDS}초까지
+ * 기다립니다.
+ *
+ * @param <K> 재계산 단위
+ */
+@Slf4j
+public class DebouncedRecompute<K> implements AutoCloseable {
+
+    private static final long MAX_RETRY_DELAY_SECONDS = 30;
+
+    private final Duration quietPeriod;
+    private final Duration maxDelay;
+    private final BiConsumer<Set<K>, Long> recompute;
+    private final ScheduledExecutorService executor;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Set<K> dirty = new HashSet<>();
+    private long version = Long.MIN_VALUE;
+    private long firstMarkedAt;
+    private long lastMarkedAt;
+    private boolean scheduled;
+    private int failures;
+    private long retryAt;
+
+    public DebouncedRecompute(String name, Duration quietPeriod, Duration maxDelay,
+        BiConsumer<Set<K>, Long> recompute) {
+        this.quietPeriod = quietPeriod;
+        this.maxDelay = maxDelay;
+        this.recompute = recompute;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 키를 재계산 대상으로 표시합니다.
+     *
+     * @param keys    변경된 키
+     * @param version 변경을 모두 반영한 뒤의 버전
+     */
+    public void mark(Collection<K> keys, long version) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            final long now = System.nanoTime();
+            if (dirty.isEmpty()) {
+                firstMarkedAt = now;
+            }
+            dirty.addAll(keys);
+            this.version = Math.max(this.version, version);
+            lastMarkedAt = now;
+            if (!scheduled) {
+                scheduled = true;
+                executor.schedule(this::flush, quietPeriod.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 재계산을 기다리는 키 수
+     */
+    public int backlog() {
+        lock.lock();
+        try {
+            return dirty.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush() {
+        final Set<K> keys;
+        final long flushedVersion;
+        lock.lock();
+        try {
+            final long now = System.nanoTime();
+            long due = Math.min(lastMarkedAt + quietPeriod.toNanos(),
+                firstMarkedAt + maxDelay.toNanos());
+            if (failures > 0 && retryAt - due > 0) {
+                due = retryAt;
+            }
+            if (now - due < 0) {
+                executor.schedule(this::flush, due - now, TimeUnit.NANOSECONDS);
+                return;
+            }
+            keys = dirty;
+            flushedVersion = version;
+            dirty = new HashSet<>();
+            version = Long.MIN_VALUE;
+            scheduled = false;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            recompute.accept(keys, flushedVersion);
+        } catch (RuntimeException e) {
+            final long retryDelay;
+            lock.lock();
+            try {
+                failures++;
+                retryDelay = retryDelay(failures);
+                retryAt = System.nanoTime() + retryDelay;
+            } finally {
+                lock.unlock();
+            }
+            log.warn("재계산에 실패하여 다시 예약합니다. keys={}, failures={}, retryDelayMs={}",
+                keys.size(), failures, TimeUnit.NANOSECONDS.toMillis(retryDelay), e);
+            mark(keys, flushedVersion);
+            return;
+        }
+        lock.lock();
+        try {
+            failures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param failures 연속 실패 횟수
+     * @return 실패할 때마다 두 배씩 늘린 다음 시도까지의 시간(ns)
+     */
+    private long retryDelay(int failures) {
+        final long maxRetryDelay = TimeUnit.SECONDS.toNanos(MAX_RETRY_DELAY_SECONDS);
+        final long delay = quietPeriod.toNanos() << Math.min(failures, 30);
+        return delay < 0 || delay > maxRetryDelay ? maxRetryDelay : delay;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
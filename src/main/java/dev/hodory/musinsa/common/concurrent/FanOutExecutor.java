@@ -0,0 +1,152 @@
+package dev.hodory.musinsa.common.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 서로 독립적인 조회를 각자의 읽기 전용 트랜잭션(커넥션)에서 병렬로 실행합니다.
+ *
+ * <p>조회는 브랜드 삭제 같은 비동기 작업과 스레드를 나눠 쓰지 않도록 전용 스레드 풀({@code musinsa.fan-out.threads})에서
+ * 실행합니다. 풀과 대기열({@code queue-capacity})이 모두 차면 호출한 스레드에서 실행하므로 동시 조회 수가 제한됩니다.
+ *
+ * <p>모든 조회는 {@code musinsa.fan-out.deadline} 안에 끝나야 하며, 시간이 초과되거나 하나라도 실패하면 남은 조회를 취소합니다.
+ * 취소는 조회 스레드를 인터럽트할 뿐 실행 중인 JDBC 문장을 중단하지 않으므로, DB에서 실행 중인 쿼리는 같은 값으로 지정한
+ * 트랜잭션 타임아웃(문장의 query timeout)이 지나야 중단되고 그때까지 커넥션과 조회 스레드를 점유합니다.
+ * 호출한 스레드에 이미 트랜잭션이 있으면 같은 데이터를 보도록 그 트랜잭션 안에서 순서대로 실행합니다.
+ * 요청 정보(카탈로그 버전 등)를 참조할 수 있도록 호출한 스레드의 요청 속성을 조회 스레드에도 바인딩합니다.
+ */
+@Component
+public class FanOutExecutor implements DisposableBean {
+
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration deadline;
+
+    @Autowired
+    public FanOutExecutor(TransactionTemplate transactionTemplate, FanOutProperties properties) {
+        this(createTaskExecutor(properties), transactionTemplate, properties);
+    }
+
+    public FanOutExecutor(AsyncTaskExecutor taskExecutor, TransactionTemplate transactionTemplate,
+        FanOutProperties properties) {
+        this.taskExecutor = taskExecutor;
+        this.deadline = properties.getDeadline();
+        this.readOnlyTransaction = new TransactionTemplate(
+            transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout(
+            (int) Math.max(1, (deadline.toMillis() + 999) / 1000));
+    }
+
+    private static ThreadPoolTaskExecutor createTaskExecutor(FanOutProperties properties) {
+        final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("fan-out-");
+        taskExecutor.setCorePoolSize(properties.getThreads());
+        taskExecutor.setMaxPoolSize(properties.getThreads());
+        taskExecutor.setQueueCapacity(properties.getQueueCapacity());
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.setDaemon(true);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    @Override
+    public void destroy() {
+        if (taskExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            threadPoolTaskExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 조회를 병렬로 실행하고 전달한 순서대로 결과를 반환합니다.
+     *
+     * @param tasks 독립적인 조회
+     * @return 조회 결과
+     */
+    public <T> List<T> invokeAll(List<Supplier<T>> tasks) {
+        if (tasks.size() < 2 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invokeSequentially(tasks);
+        }
+        return invokeConcurrently(tasks, task -> readOnlyTransaction.execute(status -> task.get()));
+    }
+
+    /**
+     * 애플리케이션 DB를 사용하지 않는 조회를 트랜잭션 없이 병렬로 실행하고 전달한 순서대로 결과를 반환합니다.
+     *
+     * @param tasks 독립적인 조회
+     * @return 조회 결과
+     */
+    public <T> List<T> invokeAllWithoutTransaction(List<Supplier<T>> tasks) {
+        if (tasks.size() < 2) {
+            return invokeSequentially(tasks);
+        }
+        return invokeConcurrently(tasks, Supplier::get);
+    }
+
+    private <T> List<T> invokeSequentially(List<Supplier<T>> tasks) {
+        final List<T> results = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> results.add(task.get()));
+        return results;
+    }
+
+    private <T> List<T> invokeConcurrently(List<Supplier<T>> tasks,
+        Function<Supplier<T>, T> runner) {
+        final long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Supplier<T> task : tasks) {
+                futures.add(taskExecutor.submit(
+                    () -> execute(requestAttributes, () -> runner.apply(task))));
+            }
+
+            final List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures) {
+                results.add(future.get(Math.max(0, deadlineNanos - System.nanoTime()),
+                    TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("조회 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // 이미 끝난 조회에는 영향이 없고, 실행 중인 조회는 인터럽트합니다. 실행 중인 JDBC 문장은 트랜잭션 타임아웃까지 계속됩니다.
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> T execute(RequestAttributes requestAttributes, Supplier<T> task) {
+        final RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return task.get();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.hodory.musinsa.common.concurrent;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.fan-out")
+public class FanOutProperties {
+
+    /**
+     * 병렬로 실행한 조회가 모두 끝나기를 기다리는 최대 시간
+     */
+    private Duration deadline = Duration.ofSeconds(3);
+
+    /**
+     * 병렬 조회 전용 스레드 수
+     */
+    private int threads = 16;
+
+    /**
+     * 스레드가 모두 사용 중일 때 대기할 수 있는 조회 수. 넘으면 호출한 스레드에서 실행합니다.
+     */
+    private int queueCapacity = 100;
+}
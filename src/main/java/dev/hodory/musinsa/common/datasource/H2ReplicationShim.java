@@ -0,0 +1,299 @@
+package dev.hodory.musinsa.common.datasource;
+
+import dev.hodory.musinsa.common.outbox.OutboxGapRule;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 로컬 개발과 테스트에서 복제 DB를 흉내 내기 위해 원본 H2의 PUBLIC 스키마를 다른 H2로 주기적으로 복사합니다.
+ *
+ * <p>처음 복사할 때 외래 키를 제외한 스키마를 만들고, 이후에는 원본의 한 트랜잭션에서 읽은 조회용 테이블({@code tables})을
+ * 복제 DB의 한 트랜잭션에서 교체합니다. outbox 이벤트는 추가만 되므로 아직 복제되지 않은 범위만 복사하고, 원본에서 정리된
+ * 이벤트는 복제 DB에서도 삭제합니다. 복제 DB를 읽는 트랜잭션은 교체가 커밋되기 전까지 이전 데이터를 봅니다.
+ * 복사가 시작된 뒤의 변경은 다음 복사에 반영되므로, 마지막으로 성공한 복사의 시작 시각부터 지금까지를 복제 지연으로 봅니다.
+ *
+ * <p>복제된 버전은 outbox 릴레이와 같은 {@link OutboxGapRule}로 정한 연속된 outbox 범위의 마지막 id입니다. 복사 시점에 커밋되지
+ * 않은 트랜잭션의 id 공백을 넘어가면, 그 트랜잭션이 나중에 커밋한 변경이 복제되기 전에 그 버전을 요구한 조회가 복제 DB로 보내집니다.
+ */
+@Slf4j
+public class H2ReplicationShim implements ReplicaStatus, AutoCloseable {
+
+    private static final String OUTBOX_TABLE = "OUTBOX_EVENT";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final List<String> tables;
+    private final Duration gapTimeout;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean schemaCreated;
+    private volatile Instant syncedAt;
+    private volatile long replicatedVersion;
+
+    public H2ReplicationShim(DataSource primary, DataSource replica, List<String> tables,
+        Duration gapTimeout) {
+        this(primary, replica, tables, gapTimeout, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock outbox 이벤트의 저장 시각과 비교하므로 애플리케이션과 같은 시간대여야 합니다.
+     */
+    public H2ReplicationShim(DataSource primary, DataSource replica, List<String> tables,
+        Duration gapTimeout, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.tables = tables.stream().map(table -> table.toUpperCase(Locale.ROOT)).toList();
+        this.gapTimeout = gapTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public Duration lag() {
+        final Instant synced = syncedAt;
+        return synced == null ? null : Duration.between(synced, clock.instant());
+    }
+
+    @Override
+    public long replicatedVersion() {
+        return replicatedVersion;
+    }
+
+    /**
+     * 복사에 사용하는 DataSource는 이 객체만 사용하므로 함께 닫습니다.
+     */
+    @Override
+    public void close() throws Exception {
+        lock.lock();
+        try {
+            for (DataSource dataSource : List.of(primary, replica)) {
+                if (dataSource instanceof AutoCloseable closeable) {
+                    closeable.close();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 원본 DB를 복제 DB로 복사합니다. 실패하면 복제 지연이 늘어나 읽기 전용 트랜잭션이 원본 DB로 보내집니다.
+     */
+    @Scheduled(fixedDelayString = "${musinsa.replica.sync-interval:200ms}")
+    public void sync() {
+        lock.lock();
+        try {
+            copy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void copy() {
+        final Instant startedAt = clock.instant();
+        final LocalDateTime gapDeadline = LocalDateTime.now(clock).minus(gapTimeout);
+        try (Connection source = primary.getConnection();
+            Connection target = replica.getConnection()) {
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            source.setReadOnly(true);
+            try {
+                final List<String> existing = findTables(source);
+                if (!schemaCreated) {
+                    createSchema(source, target);
+                    schemaCreated = true;
+                }
+                replicatedVersion = copyTables(source, target, existing, gapDeadline);
+            } finally {
+                source.rollback();
+                source.setAutoCommit(true);
+            }
+            syncedAt = startedAt;
+        } catch (SQLException e) {
+            log.warn("복제 DB를 갱신하지 못했습니다.", e);
+        }
+    }
+
+    private List<String> findTables(Connection source) throws SQLException {
+        final List<String> existing = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+            ResultSet resultSet = statement.executeQuery(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                    + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (resultSet.next()) {
+                existing.add(resultSet.getString(1));
+            }
+        }
+        return Collections.unmodifiableList(existing);
+    }
+
+    /**
+     * 복제 DB는 원본에서 검증된 데이터만 받으므로 외래 키는 만들지 않습니다. 테이블을 순서와 상관없이 교체할 수 있습니다.
+     */
+    private void createSchema(Connection source, Connection target) throws SQLException {
+        final List<String> ddl = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+            ResultSet resultSet = statement.executeQuery("SCRIPT NODATA NOSETTINGS SCHEMA PUBLIC")) {
+            while (resultSet.next()) {
+                final String sql = resultSet.getString(1);
+                if (!sql.startsWith("--") && !sql.contains("FOREIGN KEY")
+                    && !sql.startsWith("CREATE USER")) {
+                    ddl.add(sql);
+                }
+            }
+        }
+
+        try (Statement statement = target.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * @return 복제된 outbox 범위의 마지막 id
+     */
+    private long copyTables(Connection source, Connection target, List<String> existing,
+        LocalDateTime gapDeadline) throws SQLException {
+        target.setAutoCommit(false);
+        try {
+            for (String table : tables) {
+                if (existing.contains(table)) {
+                    replaceTable(source, target, table);
+                }
+            }
+            final long version = existing.contains(OUTBOX_TABLE)
+                ? appendOutbox(source, target, gapDeadline)
+                : 0L;
+            target.commit();
+            return version;
+        } catch (SQLException e) {
+            target.rollback();
+            throw e;
+        } finally {
+            target.setAutoCommit(true);
+        }
+    }
+
+    private void replaceTable(Connection source, Connection target, String table)
+        throws SQLException {
+        final String name = qualified(table);
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + name);
+        }
+
+        try (Statement select = source.createStatement();
+            ResultSet rows = select.executeQuery("SELECT * FROM " + name)) {
+            insert(target, "INSERT INTO " + name, "", rows);
+        }
+    }
+
+    /**
+     * 원본에서 정리된 이벤트를 삭제하고, 복제된 범위 이후의 이벤트를 복사합니다. 공백 뒤에서 미리 복사한 이벤트는 공백이 채워진 뒤
+     * 다시 복사하므로 id로 병합합니다.
+     */
+    private long appendOutbox(Connection source, Connection target, LocalDateTime gapDeadline)
+        throws SQLException {
+        final String name = qualified(OUTBOX_TABLE);
+        try (Statement select = source.createStatement();
+            ResultSet resultSet = select.executeQuery("SELECT MIN(ID) FROM " + name);
+            PreparedStatement delete = target.prepareStatement(
+                "DELETE FROM " + name + " WHERE ID < ?")) {
+            resultSet.next();
+            final long minId = resultSet.getLong(1);
+            delete.setLong(1, resultSet.wasNull() ? Long.MAX_VALUE : minId);
+            delete.executeUpdate();
+        }
+
+        final List<CopiedEvent> copied = new ArrayList<>();
+        try (PreparedStatement select = source.prepareStatement(
+            "SELECT * FROM " + name + " WHERE ID > ? ORDER BY ID")) {
+            select.setLong(1, replicatedVersion);
+            try (ResultSet rows = select.executeQuery()) {
+                insert(target, "MERGE INTO " + name, " KEY (ID)", rows,
+                    row -> copied.add(new CopiedEvent(row.getLong("ID"),
+                        row.getTimestamp("CREATED_AT").toLocalDateTime())));
+            }
+        }
+
+        long previous = replicatedVersion;
+        for (CopiedEvent event : copied) {
+            if (!OutboxGapRule.continues(previous, event.id(), event.createdAt(), gapDeadline)) {
+                break;
+            }
+            previous = event.id();
+        }
+        return previous;
+    }
+
+    private void insert(Connection target, String statement, String keys, ResultSet rows)
+        throws SQLException {
+        insert(target, statement, keys, rows, row -> {
+        });
+    }
+
+    private void insert(Connection target, String statement, String keys, ResultSet rows,
+        RowCallback callback) throws SQLException {
+        final ResultSetMetaData metaData = rows.getMetaData();
+        final int columnCount = metaData.getColumnCount();
+        final List<String> columns = new ArrayList<>(columnCount);
+        for (int column = 1; column <= columnCount; column++) {
+            columns.add("\"" + metaData.getColumnName(column) + "\"");
+        }
+        final String placeholders = String.join(", ", Collections.nCopies(columnCount, "?"));
+        try (PreparedStatement insert = target.prepareStatement(statement
+            + " (" + String.join(", ", columns) + ")" + keys + " VALUES (" + placeholders + ")")) {
+            while (rows.next()) {
+                for (int column = 1; column <= columnCount; column++) {
+                    insert.setObject(column, read(rows, metaData, column));
+                }
+                callback.accept(rows);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * LOB은 원본 커넥션에 묶여 있으므로 값으로 꺼내 전달합니다.
+     */
+    private Object read(ResultSet rows, ResultSetMetaData metaData, int column)
+        throws SQLException {
+        return switch (metaData.getColumnType(column)) {
+            case Types.CLOB, Types.NCLOB -> rows.getString(column);
+            case Types.BLOB -> rows.getBytes(column);
+            default -> rows.getObject(column);
+        };
+    }
+
+    private static String qualified(String table) {
+        return "\"PUBLIC\".\"" + table + "\"";
+    }
+
+    @FunctionalInterface
+    private interface RowCallback {
+
+        void accept(ResultSet row) throws SQLException;
+    }
+
+    private record CopiedEvent(long id, LocalDateTime createdAt) {
+
+    }
+}
@@ -0,0 +1,63 @@
+package dev.hodory.musinsa.common.datasource;
+
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제 DB로, 그 외에는 원본 DB로 커넥션을 요청합니다.
+ *
+ * <p>트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에 바인딩되므로,
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 대상을 고르도록
+ * 해야 합니다. 복제 지연이 {@code maxLag}를 넘었거나 {@link CatalogVersionRequirement}의 버전이 아직 복제되지
+ * 않았으면 읽기 전용 트랜잭션도 원본 DB로 보냅니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaStatus replicaStatus;
+    private final Duration maxLag;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+        ReplicaStatus replicaStatus, Duration maxLag) {
+        this.replicaStatus = replicaStatus;
+        this.maxLag = maxLag;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+
+        final Duration lag = replicaStatus.lag();
+        if (lag == null || lag.compareTo(maxLag) > 0) {
+            return Route.PRIMARY;
+        }
+
+        final Long minVersion = requestedVersion();
+        if (minVersion != null && replicaStatus.replicatedVersion() < minVersion) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * 잘못된 헤더는 조회 API에서 400으로 응답하므로, 커넥션을 고를 때는 원본 DB로 보내기만 합니다.
+     */
+    private Long requestedVersion() {
+        try {
+            return CatalogVersionRequirement.current();
+        } catch (IllegalArgumentException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package dev.hodory.musinsa.common.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.replica")
+public class ReplicaProperties {
+
+    /**
+     * 읽기 전용 트랜잭션을 복제 DB로 보낼지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제 DB 접속 URL. 기본값은 같은 JVM의 H2 인메모리 DB입니다.
+     */
+    private String url = "jdbc:h2:mem:product-replica;DB_CLOSE_DELAY=-1";
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /**
+     * 복제 DB로 보낼 수 있는 최대 복제 지연. 넘으면 읽기 전용 트랜잭션도 원본 DB로 보냅니다.
+     */
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    /**
+     * 원본 DB를 복제 DB로 복사하는 주기
+     */
+    private Duration syncInterval = Duration.ofMillis(200);
+
+    /**
+     * 원본 DB에서 통째로 복사할 조회용 테이블. outbox 이벤트는 복제 버전을 정하기 위해 항상 새로 추가된 범위만 복사합니다.
+     */
+    private List<String> tables = List.of("brand", "category", "product", "cache_version");
+}
@@ -0,0 +1,21 @@
+package dev.hodory.musinsa.common.datasource;
+
+import java.time.Duration;
+
+/**
+ * 복제 DB가 원본 DB를 얼마나 따라왔는지 알려줍니다.
+ */
+public interface ReplicaStatus {
+
+    /**
+     * 복제 DB에 아직 반영되지 않았을 수 있는 변경의 최대 시간
+     *
+     * @return 한 번도 복제되지 않았으면 null
+     */
+    Duration lag();
+
+    /**
+     * 복제 DB에 반영된 마지막 outbox id. 카탈로그 버전과 같은 값입니다.
+     */
+    long replicatedVersion();
+}
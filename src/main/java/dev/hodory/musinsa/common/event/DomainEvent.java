@@ -0,0 +1,9 @@
+package dev.hodory.musinsa.common.event;
+
+/**
+ * 상품, 브랜드 변경을 나타내는 도메인 이벤트입니다.
+ * 이벤트는 변경 전후 값을 모두 담아 구독자가 데이터를 다시 조회하지 않고 파생 데이터를 갱신할 수 있도록 합니다.
+ */
+public interface DomainEvent {
+
+}
@@ -0,0 +1,35 @@
+package dev.hodory.musinsa.common.event;
+
+import java.util.List;
+
+/**
+ * 커밋된 도메인 이벤트로 파생 데이터를 갱신하는 구독자입니다.
+ */
+public interface DomainEventListener {
+
+    /**
+     * 파생 데이터를 처음부터 집계합니다. 릴레이가 시작할 때 outbox의 시작 위치를 정한 스냅샷 트랜잭션 안에서 호출합니다.
+     *
+     * @param version 집계에 반영된 outbox 위치. 이 id까지 커밋된 이벤트는 모두 집계에 포함되며, 이후의 이벤트는 집계에 포함된 것을
+     *                제외하고 릴레이가 전달합니다.
+     */
+    void load(long version);
+
+    /**
+     * outbox에 저장된 순서대로 이벤트를 받습니다. 릴레이 스레드에서 호출되므로 오래 걸리는 작업은 피해야 합니다.
+     *
+     * @param events 도메인 이벤트
+     */
+    void onEvents(List<DomainEvent> events);
+
+    /**
+     * outbox에 저장된 순서대로 이벤트와 마지막 이벤트의 outbox id를 받습니다.
+     * 파생 데이터에 반영된 outbox 위치가 필요한 구독자만 재정의합니다.
+     *
+     * @param events  도메인 이벤트
+     * @param version 마지막 이벤트의 outbox id
+     */
+    default void onEvents(List<DomainEvent> events, long version) {
+        onEvents(events);
+    }
+}
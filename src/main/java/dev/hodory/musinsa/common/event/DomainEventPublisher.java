@@ -0,0 +1,56 @@
+package dev.hodory.musinsa.common.event;
+
+import dev.hodory.musinsa.common.outbox.OutboxEvent;
+import dev.hodory.musinsa.common.outbox.OutboxEventRepository;
+import dev.hodory.musinsa.common.outbox.OutboxEventSerializer;
+import dev.hodory.musinsa.common.outbox.OutboxRelay;
+import dev.hodory.musinsa.common.version.CatalogVersionHeader;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 도메인 이벤트를 변경과 같은 트랜잭션에서 outbox 테이블에 저장합니다.
+ *
+ * <p>롤백된 트랜잭션의 이벤트는 outbox에 남지 않습니다. 커밋된 뒤에는 {@link OutboxRelay}에 알려 바로 전달되도록 하며,
+ * 알림이 유실되어도 릴레이가 outbox를 다시 읽어 전달합니다.
+ *
+ * <p>저장된 outbox id는 커밋된 뒤 카탈로그 버전으로 응답 헤더에 기록되어, 클라이언트가 이후 조회에서 자신의 변경을 읽을 수 있게 합니다.
+ * 같은 버전을 {@link CatalogVersionRequirement}에도 기록하여 캐시를 다시 채우는 조회가 복제 DB의 이전 데이터를 저장하지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSerializer outboxEventSerializer;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 도메인 이벤트를 발행합니다. 진행 중인 트랜잭션이 있어야 합니다.
+     *
+     * @param event 도메인 이벤트
+     */
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("도메인 이벤트는 트랜잭션 안에서 발행해야 합니다.");
+        }
+
+        final OutboxEvent saved = outboxEventRepository.save(outboxEventSerializer.serialize(event));
+        final Long version = saved == null ? null : saved.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 롤백된 변경의 outbox id는 존재하지 않는 버전이므로 커밋된 뒤에만 기록합니다.
+                // 캐시 삭제(@CacheEvict)보다 먼저 등록된 동기화이므로, 삭제 뒤에 다시 채우는 캐시는 이 버전 이상을 읽습니다.
+                if (version != null) {
+                    CatalogVersionRequirement.recordCommitted(version);
+                    CatalogVersionHeader.recordAtLeast(version);
+                }
+                outboxRelay.nudge();
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package dev.hodory.musinsa.common.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 노드 중 한 노드에서만 실행해야 하는 작업의 잠금입니다. {@code lockedUntil}이 지나면 잠금을 가진 노드가 종료되었어도
+ * 다른 노드가 가져갈 수 있습니다.
+ */
+@Getter
+@Entity(name = "scheduler_lock")
+@Table(name = "scheduler_lock")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Builder
+    private SchedulerLock(String name, LocalDateTime lockedUntil, LocalDateTime lockedAt,
+        String lockedBy) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+        this.lockedAt = lockedAt;
+        this.lockedBy = lockedBy;
+    }
+}
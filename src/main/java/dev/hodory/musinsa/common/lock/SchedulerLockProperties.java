@@ -0,0 +1,17 @@
+package dev.hodory.musinsa.common.lock;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.scheduler-lock")
+public class SchedulerLockProperties {
+
+    /**
+     * 잠금을 가진 노드가 종료되었을 때 다른 노드가 작업을 이어받기까지의 최대 시간. 작업 한 번의 실행 시간보다 길거나, 작업이 실행 중에 잠금을 연장해야 합니다.
+     */
+    private Duration lease = Duration.ofMinutes(1);
+}
@@ -0,0 +1,58 @@
+package dev.hodory.musinsa.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 잠금 시각과 만료 시각은 노드 간 시계 차이의 영향을 받지 않도록 모두 DB의 시계({@code LOCALTIMESTAMP})로 계산합니다.
+ */
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 잠금이 만료되었으면 {@code lockedBy}의 잠금으로 바꿉니다. 조건과 변경이 한 UPDATE 문이므로 동시에 실행해도 한 노드만
+     * 성공합니다.
+     *
+     * @return 잠금을 가져왔으면 1
+     */
+    @Modifying
+    @Query(value = "update scheduler_lock set"
+        + " locked_until = dateadd(millisecond, :leaseMillis, localtimestamp),"
+        + " locked_at = localtimestamp, locked_by = :lockedBy"
+        + " where name = :name and locked_until <= localtimestamp", nativeQuery = true)
+    int acquire(@Param("name") String name, @Param("lockedBy") String lockedBy,
+        @Param("leaseMillis") long leaseMillis);
+
+    /**
+     * 아직 {@code lockedBy}의 잠금이면 지금부터 {@code leaseMillis} 뒤로 만료 시각을 늦춥니다.
+     *
+     * @return 잠금을 연장했으면 1, 이미 만료되어 다른 노드가 가져갈 수 있으면 0
+     */
+    @Modifying
+    @Query(value = "update scheduler_lock set"
+        + " locked_until = dateadd(millisecond, :leaseMillis, localtimestamp)"
+        + " where name = :name and locked_by = :lockedBy and locked_until > localtimestamp",
+        nativeQuery = true)
+    int extend(@Param("name") String name, @Param("lockedBy") String lockedBy,
+        @Param("leaseMillis") long leaseMillis);
+
+    /**
+     * 아직 {@code lockedBy}의 잠금이면 바로 만료시킵니다.
+     */
+    @Modifying
+    @Query(value = "update scheduler_lock set locked_until = localtimestamp"
+        + " where name = :name and locked_by = :lockedBy and locked_until > localtimestamp",
+        nativeQuery = true)
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy);
+
+    /**
+     * 처음 실행하는 작업의 잠금 행을 {@code lockedBy}의 잠금으로 만듭니다. 다른 노드가 먼저 만들었으면 키 중복으로 실패합니다.
+     */
+    @Modifying
+    @Query(value = "insert into scheduler_lock (name, locked_until, locked_at, locked_by)"
+        + " values (:name, dateadd(millisecond, :leaseMillis, localtimestamp), localtimestamp,"
+        + " :lockedBy)", nativeQuery = true)
+    int insert(@Param("name") String name, @Param("lockedBy") String lockedBy,
+        @Param("leaseMillis") long leaseMillis);
+}
@@ -0,0 +1,115 @@
+package dev.hodory.musinsa.common.lock;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@code scheduler_lock} 테이블의 잠금으로 유지보수 작업을 여러 노드 중 한 노드에서만 실행합니다.
+ *
+ * <p>잠금은 {@code lease} 동안 유효하며 작업이 끝나면 바로 해제합니다. 잠금을 가진 노드가 작업 중에 종료되면 잠금은
+ * {@code lease}가 지난 뒤 만료되어 다음 주기에 다른 노드가 작업을 이어받습니다. 만료 시각은 DB의 시계로 계산하므로 노드 간
+ * 시계 차이의 영향을 받지 않습니다. {@code lease}보다 오래 걸릴 수 있는 작업은 실행 중에 {@link #extend(String)}로 잠금을
+ * 연장해야 하며, 연장하지 못하면 다른 노드가 같은 작업을 시작할 수 있으므로 작업을 멈춰야 합니다.
+ *
+ * <p>노드마다 메모리 상태를 갱신하는 작업(outbox 전달, 캐시 버전 확인, 카탈로그 스냅샷 재집계)은 잠금 없이 모든 노드에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate lockTransaction;
+    private final Duration lease;
+    private final String nodeId;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+        TransactionTemplate transactionTemplate, SchedulerLockProperties properties) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        // 작업을 호출한 트랜잭션과 관계없이 잠금을 바로 커밋해야 다른 노드가 볼 수 있습니다.
+        this.lockTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.lockTransaction.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lease = properties.getLease();
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/"
+            + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 잠금을 가져왔을 때만 작업을 실행합니다.
+     *
+     * @param name 작업 이름
+     * @param job  작업
+     * @return 다른 노드가 실행 중이라 실행하지 않았으면 empty
+     */
+    public <T> Optional<T> callExclusively(String name, Supplier<T> job) {
+        if (!tryAcquire(name)) {
+            log.debug("다른 노드가 작업을 실행 중입니다. name={}", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(job.get());
+        } finally {
+            release(name);
+        }
+    }
+
+    /**
+     * {@link #callExclusively(String, Supplier)}로 실행 중인 작업의 잠금을 지금부터 {@code lease}만큼 연장합니다.
+     * {@code lease}보다 짧은 주기로 호출해야 합니다.
+     *
+     * @param name 작업 이름
+     * @return 연장했으면 true, 잠금이 이미 만료되어 다른 노드가 가져갔을 수 있으면 false
+     */
+    public boolean extend(String name) {
+        try {
+            final Integer extended = lockTransaction.execute(status ->
+                schedulerLockRepository.extend(name, nodeId, lease.toMillis()));
+            return extended != null && extended == 1;
+        } catch (RuntimeException e) {
+            log.warn("작업 잠금을 연장하지 못했습니다. name={}", name, e);
+            return false;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private boolean tryAcquire(String name) {
+        final long leaseMillis = lease.toMillis();
+        try {
+            final Boolean acquired = lockTransaction.execute(status -> {
+                if (schedulerLockRepository.acquire(name, nodeId, leaseMillis) == 1) {
+                    return true;
+                }
+                if (schedulerLockRepository.existsById(name)) {
+                    return false;
+                }
+                // 처음 실행하는 작업이면 잠금을 가진 상태로 행을 만듭니다.
+                return schedulerLockRepository.insert(name, nodeId, leaseMillis) == 1;
+            });
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 잠금 행을 먼저 만들었습니다.
+            return false;
+        }
+    }
+
+    private void release(String name) {
+        try {
+            lockTransaction.executeWithoutResult(status ->
+                schedulerLockRepository.release(name, nodeId));
+        } catch (RuntimeException e) {
+            // 해제하지 못해도 lease가 지나면 만료됩니다.
+            log.warn("작업 잠금을 해제하지 못했습니다. name={}", name, e);
+        }
+    }
+}
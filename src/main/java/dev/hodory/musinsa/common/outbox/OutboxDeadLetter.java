@@ -0,0 +1,63 @@
+package dev.hodory.musinsa.common.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 역직렬화하지 못해 전달을 건너뛴 outbox 이벤트입니다. id는 원래 outbox 이벤트의 id이며, outbox 이벤트가 삭제된 뒤에도 원인을
+ * 확인할 수 있도록 유형과 내용을 그대로 보관합니다.
+ */
+@Getter
+@Entity(name = "outbox_dead_letter")
+@Table(name = "outbox_dead_letter")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxDeadLetter {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "error", length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    @Builder
+    private OutboxDeadLetter(Long id, String eventType, String payload, String error,
+        LocalDateTime failedAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.error = error;
+        this.failedAt = failedAt;
+    }
+
+    public static OutboxDeadLetter of(OutboxEvent event, RuntimeException cause) {
+        final String error = String.valueOf(cause);
+        return OutboxDeadLetter.builder()
+            .id(event.getId())
+            .eventType(event.getEventType())
+            .payload(event.getPayload())
+            .error(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+            .failedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,7 @@
+package dev.hodory.musinsa.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+
+}
@@ -0,0 +1,22 @@
+package dev.hodory.musinsa.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<OutboxEvent> findAllByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("select coalesce(max(o.id), 0) from outbox_event o where o.createdAt <= :createdAt")
+    long findMaxIdCreatedAtOrBefore(@Param("createdAt") LocalDateTime createdAt);
+
+    @Query("select o.id from outbox_event o where o.id <= :id and o.createdAt < :createdAt order by o.id")
+    List<Long> findProcessedIdsBefore(@Param("id") Long id,
+        @Param("createdAt") LocalDateTime createdAt, Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package dev.hodory.musinsa.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트를 outbox 행으로 변환합니다. 이벤트 타입은 클래스 이름으로 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxEvent serialize(DomainEvent event) {
+        try {
+            return OutboxEvent.builder()
+                .eventType(event.getClass().getName())
+                .payload(objectMapper.writeValueAsString(event))
+                .createdAt(LocalDateTime.now())
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    public DomainEvent deserialize(OutboxEvent outboxEvent) {
+        try {
+            final Class<?> type = Class.forName(outboxEvent.getEventType());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                throw new IllegalStateException("도메인 이벤트 타입이 아닙니다. type=" + type.getName());
+            }
+            return (DomainEvent) objectMapper.readValue(outboxEvent.getPayload(), type);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new IllegalStateException(
+                "도메인 이벤트를 역직렬화할 수 없습니다. id=" + outboxEvent.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.hodory.musinsa.common.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox id 공백을 아직 커밋되지 않은 트랜잭션의 id로 볼지 판단합니다. {@link OutboxRelay}와 복제 DB가 같은 규칙으로
+ * 커밋된 outbox의 연속된 범위를 정합니다.
+ */
+public final class OutboxGapRule {
+
+    private OutboxGapRule() {
+    }
+
+    /**
+     * @param previous    연속된 범위의 마지막 id
+     * @param id          다음 이벤트의 id
+     * @param createdAt   다음 이벤트가 저장된 시각
+     * @param gapDeadline 이 시각 이전에 저장된 이벤트 앞의 공백은 롤백된 id로 봅니다. {@code gap-timeout}만큼 이전입니다.
+     * @return 다음 이벤트까지 연속된 범위를 이어갈 수 있는지 여부
+     */
+    public static boolean continues(long previous, long id, LocalDateTime createdAt,
+        LocalDateTime gapDeadline) {
+        return id == previous + 1 || !createdAt.isAfter(gapDeadline);
+    }
+}
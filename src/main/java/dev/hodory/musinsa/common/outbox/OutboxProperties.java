@@ -0,0 +1,43 @@
+package dev.hodory.musinsa.common.outbox;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.outbox")
+public class OutboxProperties {
+
+    /**
+     * 한 번에 읽어 처리할 최대 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 커밋 알림을 놓친 이벤트를 찾기 위한 폴링 주기
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 커밋되지 않은 트랜잭션이 만든 id 공백을 기다리는 최대 시간. 트랜잭션 제한 시간({@code spring.transaction.default-timeout})보다
+     * 길어야 합니다.
+     */
+    private Duration gapTimeout = Duration.ofSeconds(15);
+
+    /**
+     * 리스너가 같은 이벤트를 연속으로 처리하지 못하면 파생 데이터를 다시 집계하기까지의 시도 횟수
+     */
+    private int maxListenerAttempts = 5;
+
+    /**
+     * 처리된 이벤트를 보관할 기간
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * 보관 기간이 지난 이벤트를 삭제하는 주기
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
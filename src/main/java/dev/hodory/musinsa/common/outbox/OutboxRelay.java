@@ -0,0 +1,417 @@
+package dev.hodory.musinsa.common.outbox;
+
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.common.event.DomainEventListener;
+import dev.hodory.musinsa.common.lock.SchedulerLockService;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 이벤트를 id 순서대로 읽어 {@link DomainEventListener}에 전달합니다.
+ *
+ * <p>애플리케이션이 시작되면 하나의 스냅샷 트랜잭션에서 파생 데이터를 집계하고, 같은 스냅샷에서 전달과 같은 규칙으로 커밋된
+ * outbox의 연속된 범위를 찾아 그 마지막 id를 high-water mark로 기록합니다. 스냅샷에는 없지만 더 작은 id를 가진, 아직 커밋되지 않은
+ * 트랜잭션의 이벤트는 이후에 전달하고, high-water mark 뒤에서 이미 집계에 포함된 이벤트는 전달하지 않습니다.
+ * 이후에는 high-water mark 이후의 이벤트만 배치로 읽어 반영하므로, 커밋과 전달 사이에 프로세스가 종료되어도 이벤트를 잃지 않습니다.
+ *
+ * <p>리스너마다 전달한 위치를 따로 기록하고, high-water mark는 그중 가장 낮은 위치입니다. 처리에 실패한 리스너는 위치를 유지하여
+ * 다음 전달에서 같은 이벤트를 다시 받고, {@code max-listener-attempts}번 연속 실패하면 파생 데이터를 다시 집계합니다.
+ *
+ * <p>IDENTITY id는 커밋 순서와 다르게 발급될 수 있으므로, 아직 커밋되지 않은 트랜잭션이 만든 id 공백은
+ * {@code gap-timeout}이 지날 때까지 기다린 뒤 건너뜁니다. 건너뛴 id는 다시 확인하지 않으므로 {@code gap-timeout}은
+ * 트랜잭션 제한 시간({@code spring.transaction.default-timeout})보다 길어야 하며, 시작할 때 이를 확인합니다.
+ * 전달은 단일 스레드에서 실행됩니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    public static final String PURGE_LOCK = "outbox-purge";
+
+    private static final long NOT_STARTED = -1L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSerializer outboxEventSerializer;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final List<DomainEventListener> listeners;
+    private final List<ListenerMark> marks = new ArrayList<>();
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate snapshotTransaction;
+    private final SchedulerLockService schedulerLockService;
+    private final Executor dispatcher;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final int maxListenerAttempts;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile long highWaterMark = NOT_STARTED;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+        OutboxEventSerializer outboxEventSerializer,
+        OutboxDeadLetterRepository outboxDeadLetterRepository, List<DomainEventListener> listeners,
+        TransactionTemplate transactionTemplate, SchedulerLockService schedulerLockService,
+        OutboxProperties properties) {
+        this(outboxEventRepository, outboxEventSerializer, outboxDeadLetterRepository, listeners,
+            transactionTemplate, schedulerLockService, properties, Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "outbox-relay");
+                thread.setDaemon(true);
+                return thread;
+            }));
+    }
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+        OutboxEventSerializer outboxEventSerializer,
+        OutboxDeadLetterRepository outboxDeadLetterRepository, List<DomainEventListener> listeners,
+        TransactionTemplate transactionTemplate, SchedulerLockService schedulerLockService,
+        OutboxProperties properties, Executor dispatcher) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventSerializer = outboxEventSerializer;
+        this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+        this.listeners = listeners;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(
+            transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshotTransaction = new TransactionTemplate(
+            transactionTemplate.getTransactionManager());
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.schedulerLockService = schedulerLockService;
+        this.dispatcher = dispatcher;
+        this.batchSize = properties.getBatchSize();
+        this.gapTimeout = properties.getGapTimeout();
+        this.retention = properties.getRetention();
+        this.maxListenerAttempts = properties.getMaxListenerAttempts();
+        checkGapTimeout(transactionTemplate.getTransactionManager());
+    }
+
+    /**
+     * 공백 뒤의 이벤트가 저장되기 전에 공백의 id가 발급되었으므로, 공백을 만든 트랜잭션은 그 이벤트의 {@code createdAt}보다 먼저
+     * 시작되었습니다. 트랜잭션 제한 시간은 문장마다 남은 시간으로 적용되고 쓰기 트랜잭션은 outbox 저장 뒤에도 문장(캐시 버전 갱신,
+     * 커밋할 때의 flush)을 실행하므로, 제한 시간이 지나면 공백을 만든 트랜잭션은 커밋되었거나 롤백됩니다. 마지막 문장과 커밋 사이의 시간과 노드 간 시계
+     * 차이는 {@code gap-timeout}과 제한 시간의 차이 안에 있어야 합니다. 쓰기 트랜잭션에 더 긴 {@code timeout}을 지정하면 안 됩니다.
+     */
+    private void checkGapTimeout(PlatformTransactionManager transactionManager) {
+        if (!(transactionManager instanceof AbstractPlatformTransactionManager manager)) {
+            return;
+        }
+        final int timeout = manager.getDefaultTimeout();
+        if (timeout == TransactionDefinition.TIMEOUT_DEFAULT) {
+            log.warn("트랜잭션 제한 시간이 없어 gap-timeout보다 오래 걸린 트랜잭션의 outbox 이벤트를 건너뛸 수 있습니다. "
+                + "spring.transaction.default-timeout을 설정하세요. gapTimeout={}", gapTimeout);
+            return;
+        }
+        if (gapTimeout.compareTo(Duration.ofSeconds(timeout)) <= 0) {
+            throw new IllegalStateException(
+                "musinsa.outbox.gap-timeout은 트랜잭션 제한 시간보다 길어야 합니다. gapTimeout=" + gapTimeout
+                    + ", transactionTimeout=" + timeout + "s");
+        }
+    }
+
+    /**
+     * 파생 데이터를 집계하고, 집계에 포함되지 않은 이벤트부터 전달을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        final LoadedPosition loaded = load(listeners);
+        listeners.forEach(listener -> marks.add(new ListenerMark(listener, loaded)));
+        highWaterMark = loaded.position();
+        log.info("outbox 릴레이를 시작합니다. highWaterMark={}", highWaterMark);
+        nudge();
+    }
+
+    /**
+     * 스냅샷 트랜잭션에서 파생 데이터를 집계하고, 같은 스냅샷에서 커밋된 outbox의 연속된 범위를 찾습니다.
+     *
+     * <p>{@code gap-timeout} 이전에 저장된 이벤트보다 작은 id의 트랜잭션은 모두 끝났으므로 그 이벤트까지는 스냅샷에 있는 것이
+     * 전부입니다. 그 뒤로는 전달과 같은 규칙으로 공백 앞까지 이어가고, 공백 뒤에서 스냅샷에 있던 이벤트는 집계에 포함된 것으로
+     * 기록합니다. 공백의 id가 나중에 커밋되면 전달합니다.
+     */
+    private LoadedPosition load(List<DomainEventListener> targets) {
+        final LoadedPosition loaded = snapshotTransaction.execute(status -> {
+            final LocalDateTime gapDeadline = LocalDateTime.now().minus(gapTimeout);
+            final long settled = outboxEventRepository.findMaxIdCreatedAtOrBefore(gapDeadline);
+            final List<OutboxEvent> recent = outboxEventRepository.findAllByIdGreaterThanOrderByIdAsc(
+                settled);
+            final long position = lastId(settled, committedPrefix(settled, recent, gapDeadline));
+            targets.forEach(listener -> listener.load(position));
+            return new LoadedPosition(position, recent.stream()
+                .map(OutboxEvent::getId)
+                .filter(id -> id > position)
+                .collect(Collectors.toSet()));
+        });
+        return loaded == null ? new LoadedPosition(0L, Set.of()) : loaded;
+    }
+
+    /**
+     * 새 이벤트가 커밋되었음을 알립니다. 전달이 이미 예약되어 있으면 새로 예약하지 않습니다.
+     */
+    public void nudge() {
+        if (highWaterMark != NOT_STARTED && drainScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    /**
+     * 커밋 알림을 놓친 이벤트(다른 인스턴스에서 커밋되었거나 알림 전에 종료된 경우)를 주기적으로 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${musinsa.outbox.poll-interval:1s}")
+    public void poll() {
+        nudge();
+    }
+
+    /**
+     * 이미 전달했고 보관 기간이 지난 이벤트를 삭제합니다. 여러 노드가 같은 DB를 사용하므로 {@value #PURGE_LOCK} 잠금을 가진
+     * 노드에서만 실행합니다. {@code batch-size}건씩 별도의 트랜잭션으로 삭제하고 배치마다 잠금을 연장하며, 연장하지 못하면
+     * 다른 노드가 이어받았을 수 있으므로 남은 이벤트는 다음 주기로 넘깁니다.
+     *
+     * @return 삭제된 이벤트 수. 다른 노드가 삭제 중이면 0
+     */
+    @Scheduled(fixedDelayString = "${musinsa.outbox.purge-interval:10m}")
+    public int purge() {
+        return schedulerLockService.callExclusively(PURGE_LOCK, this::purgeProcessed).orElse(0);
+    }
+
+    private int purgeProcessed() {
+        final long processed = highWaterMark;
+        if (processed == NOT_STARTED) {
+            return 0;
+        }
+
+        final LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted = 0;
+        while (true) {
+            final Integer batch = transactionTemplate.execute(status -> {
+                final List<Long> ids = outboxEventRepository.findProcessedIdsBefore(processed, before,
+                    PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    outboxEventRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            deleted += batch == null ? 0 : batch;
+            if (batch == null || batch < batchSize) {
+                break;
+            }
+            if (!schedulerLockService.extend(PURGE_LOCK)) {
+                log.warn("outbox 정리 잠금을 연장하지 못해 정리를 멈춥니다. deleted={}", deleted);
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("처리된 outbox 이벤트를 삭제했습니다. deleted={}", deleted);
+        }
+        return deleted;
+    }
+
+    public long getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    @Override
+    public void destroy() {
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void drain() {
+        // 전달 중에 커밋된 이벤트는 다음 전달로 예약되도록 먼저 해제합니다.
+        drainScheduled.set(false);
+
+        try {
+            boolean hasMore = true;
+            while (hasMore) {
+                final long after = highWaterMark;
+                final List<OutboxEvent> batch = readOnlyTransaction.execute(status ->
+                    outboxEventRepository.findByIdGreaterThanOrderByIdAsc(after,
+                        PageRequest.of(0, batchSize)));
+                if (batch == null || batch.isEmpty()) {
+                    return;
+                }
+
+                final List<OutboxEvent> committed = committedPrefix(after, batch,
+                    LocalDateTime.now().minus(gapTimeout));
+                if (committed.isEmpty()) {
+                    return;
+                }
+
+                final long version = lastId(after, committed);
+                final boolean delivered = dispatch(committed, version);
+                highWaterMark = lowestMark(version);
+                if (!delivered) {
+                    // 실패한 리스너는 다음 폴링이나 알림에서 다시 시도합니다.
+                    return;
+                }
+                hasMore = committed.size() == batchSize;
+            }
+        } catch (RuntimeException e) {
+            log.warn("outbox 이벤트 전달에 실패했습니다. highWaterMark={}", highWaterMark, e);
+        }
+    }
+
+    /**
+     * id 공백 앞까지의 이벤트를 반환합니다. 공백 뒤의 이벤트가 {@code gap-timeout}보다 오래되었으면 공백을 롤백된 id로 보고 건너뜁니다.
+     * {@code gap-timeout}이 트랜잭션 제한 시간보다 길므로 그때까지 커밋되지 않은 id는 다시 나타나지 않습니다.
+     */
+    private static List<OutboxEvent> committedPrefix(long after, List<OutboxEvent> batch,
+        LocalDateTime gapDeadline) {
+        final List<OutboxEvent> committed = new ArrayList<>(batch.size());
+        long previous = after;
+        for (OutboxEvent event : batch) {
+            if (!OutboxGapRule.continues(previous, event.getId(), event.getCreatedAt(),
+                gapDeadline)) {
+                break;
+            }
+            committed.add(event);
+            previous = event.getId();
+        }
+        return committed;
+    }
+
+    private static long lastId(long after, List<OutboxEvent> events) {
+        return events.isEmpty() ? after : events.get(events.size() - 1).getId();
+    }
+
+    /**
+     * 리스너마다 아직 전달하지 않은 이벤트만 전달합니다.
+     *
+     * @return 모든 리스너가 {@code version}까지 반영했는지 여부
+     */
+    private boolean dispatch(List<OutboxEvent> batch, long version) {
+        final List<Delivery> deliveries = deserialize(batch);
+        boolean delivered = true;
+        for (ListenerMark mark : marks) {
+            if (mark.position >= version) {
+                continue;
+            }
+            final long after = mark.position;
+            final List<DomainEvent> events = deliveries.stream()
+                .filter(delivery -> delivery.id() > after && !mark.loaded.contains(delivery.id()))
+                .map(Delivery::event)
+                .toList();
+            try {
+                if (!events.isEmpty()) {
+                    // 리스너가 읽는 저장소가 이 배치의 변경을 반영하고 있어야 합니다.
+                    CatalogVersionRequirement.runAtLeast(version,
+                        () -> mark.listener.onEvents(events, version));
+                }
+                mark.advance(version);
+                mark.failures = 0;
+            } catch (RuntimeException e) {
+                mark.failures++;
+                log.warn("도메인 이벤트 처리에 실패했습니다. listener={}, position={}, attempts={}",
+                    mark.name(), mark.position, mark.failures, e);
+                if (mark.failures >= maxListenerAttempts) {
+                    reload(mark);
+                }
+                delivered &= mark.position >= version;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * 같은 이벤트를 계속 처리하지 못하는 리스너의 파생 데이터를 다시 집계하고, 집계에 포함되지 않은 이벤트부터 전달을 이어갑니다.
+     * 이미 전달한 위치까지의 이벤트는 커밋된 뒤에 전달되었으므로 집계에 포함되어 있습니다.
+     */
+    private void reload(ListenerMark mark) {
+        try {
+            mark.reset(load(List.of(mark.listener)));
+            mark.failures = 0;
+            log.warn("도메인 이벤트 처리에 계속 실패하여 파생 데이터를 다시 집계했습니다. listener={}, position={}",
+                mark.name(), mark.position);
+        } catch (RuntimeException e) {
+            log.warn("파생 데이터를 다시 집계하지 못했습니다. listener={}", mark.name(), e);
+        }
+    }
+
+    private long lowestMark(long version) {
+        return marks.stream().mapToLong(mark -> mark.position).min().orElse(version);
+    }
+
+    /**
+     * 역직렬화하지 못한 이벤트는 {@link OutboxDeadLetter}로 옮기고 건너뛰어, 한 건 때문에 이후 이벤트의 전달이 멈추지 않도록 합니다.
+     * 옮기지 못하면 예외를 던져 high-water mark를 유지하고 다음 전달에서 다시 시도합니다.
+     */
+    private List<Delivery> deserialize(List<OutboxEvent> batch) {
+        final List<Delivery> events = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            try {
+                events.add(new Delivery(event.getId(), outboxEventSerializer.deserialize(event)));
+            } catch (RuntimeException e) {
+                log.error("outbox 이벤트를 역직렬화하지 못해 dead letter로 옮깁니다. id={}, eventType={}",
+                    event.getId(), event.getEventType(), e);
+                transactionTemplate.executeWithoutResult(status ->
+                    outboxDeadLetterRepository.save(OutboxDeadLetter.of(event, e)));
+            }
+        }
+        return events;
+    }
+
+    private record Delivery(long id, DomainEvent event) {
+
+    }
+
+    /**
+     * 파생 데이터를 집계한 스냅샷의 outbox 위치와, 그 위치 뒤에서 이미 집계에 포함된 이벤트의 id입니다.
+     */
+    private record LoadedPosition(long position, Set<Long> loaded) {
+
+    }
+
+    /**
+     * 리스너에 전달한 마지막 outbox id, 그 뒤에서 집계에 이미 포함된 이벤트의 id와 연속 실패 횟수입니다. 전달 스레드에서만 변경합니다.
+     */
+    private static final class ListenerMark {
+
+        private final DomainEventListener listener;
+        private final Set<Long> loaded = new HashSet<>();
+        private long position;
+        private int failures;
+
+        private ListenerMark(DomainEventListener listener, LoadedPosition start) {
+            this.listener = listener;
+            reset(start);
+        }
+
+        private void reset(LoadedPosition start) {
+            position = Math.max(position, start.position());
+            loaded.clear();
+            start.loaded().stream().filter(id -> id > position).forEach(loaded::add);
+        }
+
+        private void advance(long version) {
+            position = version;
+            loaded.removeIf(id -> id <= version);
+        }
+
+        private String name() {
+            return listener.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.hodory.musinsa.common.sql;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 애플리케이션의 DataSource를 {@link SlowQueryDataSource}로 감쌉니다.
+ *
+ * <p>다른 DataSource에 위임하기만 하는 DataSource는 대상 DataSource가 감싸지므로 제외하여, 한 쿼리가 두 번 측정되지 않게 합니다.
+ */
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryDetector> detector;
+
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryDetector> detector) {
+        this.detector = detector;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+            return new SlowQueryDataSource(dataSource, detector.getObject());
+        }
+        return bean;
+    }
+}
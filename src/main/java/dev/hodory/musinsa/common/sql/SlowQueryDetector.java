@@ -0,0 +1,114 @@
+package dev.hodory.musinsa.common.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임계치를 넘은 쿼리의 SQL, 파라미터, 실행 시간, 실행 계획을 기록합니다.
+ * <p>
+ * 로그는 window 단위로 최대 maxLogsPerWindow 건까지만 남기며, 초과된 쿼리는 실행 계획도 조회하지 않고 건수만 집계합니다.
+ */
+@Slf4j
+public class SlowQueryDetector {
+
+    private final long thresholdNanos;
+    private final boolean explain;
+    private final int maxLogsPerWindow;
+    private final long windowNanos;
+
+    private long windowStartedAt;
+    private int loggedInWindow;
+    private int suppressedInWindow;
+
+    public SlowQueryDetector(SlowQueryProperties properties) {
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.explain = properties.isExplain();
+        this.maxLogsPerWindow = properties.getMaxLogsPerWindow();
+        this.windowNanos = properties.getWindow().toNanos();
+        this.windowStartedAt = System.nanoTime();
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * 느린 쿼리를 기록합니다.
+     *
+     * @param connection   쿼리가 실행된 커넥션 (실행 계획 조회에 사용)
+     * @param sql          실행된 SQL
+     * @param parameters   바인딩된 파라미터 (index, value)
+     * @param elapsedNanos 실행 시간
+     * @return 로그가 기록되었는지 여부
+     */
+    public boolean report(Connection connection, String sql, Map<Integer, Object> parameters,
+        long elapsedNanos) {
+        final int suppressed = tryAcquire();
+        if (suppressed < 0) {
+            return false;
+        }
+
+        if (suppressed > 0) {
+            log.warn("이전 구간에서 느린 쿼리 로그 {}건이 생략되었습니다.", suppressed);
+        }
+
+        log.warn("느린 쿼리가 감지되었습니다. ({} ms)\nSQL: {}\n파라미터: {}\n실행 계획: {}",
+            String.format(Locale.ROOT, "%.1f", elapsedNanos / 1_000_000.0), sql, parameters.values(),
+            explain ? explain(connection, sql, parameters) : "-");
+        return true;
+    }
+
+    /**
+     * 로그 기록 가능 여부를 확인합니다.
+     *
+     * @return 기록할 수 없으면 -1, 기록할 수 있으면 이전 구간에서 생략된 로그 수
+     */
+    private synchronized int tryAcquire() {
+        final long now = System.nanoTime();
+        int suppressed = 0;
+        if (now - windowStartedAt >= windowNanos) {
+            suppressed = suppressedInWindow;
+            windowStartedAt = now;
+            loggedInWindow = 0;
+            suppressedInWindow = 0;
+        }
+
+        if (loggedInWindow >= maxLogsPerWindow) {
+            suppressedInWindow++;
+            return -1;
+        }
+
+        loggedInWindow++;
+        return suppressed;
+    }
+
+    private String explain(Connection connection, String sql, Map<Integer, Object> parameters) {
+        final String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (!normalized.startsWith("select") && !normalized.startsWith("with")) {
+            return "-";
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                statement.setObject(parameter.getKey(), parameter.getValue());
+            }
+
+            final StringJoiner plan = new StringJoiner("\n", "\n", "");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            log.debug("실행 계획 조회에 실패했습니다.", e);
+            return "조회 실패 (" + e.getMessage() + ")";
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.hodory.musinsa.common.sql;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.slow-query")
+public class SlowQueryProperties {
+
+    /**
+     * 느린 쿼리 감지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 느린 쿼리로 판단하는 실행 시간
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * 느린 SELECT 쿼리의 실행 계획(EXPLAIN) 기록 여부
+     */
+    private boolean explain = true;
+
+    /**
+     * window 동안 기록할 수 있는 최대 로그 수
+     */
+    private int maxLogsPerWindow = 10;
+
+    /**
+     * 로그 수를 제한하는 단위 시간
+     */
+    private Duration window = Duration.ofMinutes(1);
+}
@@ -0,0 +1,43 @@
+package dev.hodory.musinsa.common.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 요청마다 {@link ServerTimingRecorder}를 바인딩하고, 응답 본문을 버퍼링한 뒤 Server-Timing 헤더를 추가합니다.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String STATEMENT_COUNT_HEADER = "X-Statement-Count";
+
+    /**
+     * SSE 스트림은 응답을 버퍼링하면 이벤트가 전송되지 않으므로 제외합니다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().endsWith("/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        final ServerTimingRecorder recorder = ServerTimingRecorder.start();
+        final ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            ServerTimingRecorder.clear();
+            wrapper.setHeader(SERVER_TIMING_HEADER, recorder.toHeaderValue());
+            wrapper.setHeader(STATEMENT_COUNT_HEADER,
+                String.valueOf(recorder.getStatementCount()));
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
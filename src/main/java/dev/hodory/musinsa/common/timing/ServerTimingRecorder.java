@@ -0,0 +1,89 @@
+package dev.hodory.musinsa.common.timing;
+
+import java.util.Locale;
+
+/**
+ * 요청 단위로 SQL 실행 시간, 집계 시간, 직렬화 시간을 기록합니다.
+ * <p>
+ * 기록기는 {@link ServerTimingFilter}가 요청 스레드에 바인딩하며, 바인딩되지 않은 경우
+ * {@link #current()}가 null을 반환하므로 비활성화 상태에서는 ThreadLocal 조회 비용만 발생합니다.
+ */
+public final class ServerTimingRecorder {
+
+    private static final ThreadLocal<ServerTimingRecorder> CURRENT = new ThreadLocal<>();
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long startedAt;
+    private long statementStartedAt;
+    private long dbNanos;
+    private int statementCount;
+    private long serializationStartedAt;
+
+    private ServerTimingRecorder(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * 현재 스레드에 새로운 기록기를 바인딩합니다.
+     *
+     * @return 바인딩된 기록기
+     */
+    public static ServerTimingRecorder start() {
+        final ServerTimingRecorder recorder = new ServerTimingRecorder(System.nanoTime());
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 기록기를 반환합니다.
+     *
+     * @return 기록기, 바인딩되지 않았다면 null
+     */
+    public static ServerTimingRecorder current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void statementStarted() {
+        statementStartedAt = System.nanoTime();
+        statementCount++;
+    }
+
+    public void statementEnded() {
+        if (statementStartedAt != 0L) {
+            dbNanos += System.nanoTime() - statementStartedAt;
+            statementStartedAt = 0L;
+        }
+    }
+
+    public void serializationStarted() {
+        if (serializationStartedAt == 0L) {
+            serializationStartedAt = System.nanoTime();
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * 현재 시점까지 기록된 값으로 Server-Timing 헤더 값을 생성합니다.
+     *
+     * @return Server-Timing 헤더 값
+     */
+    public String toHeaderValue() {
+        final long finishedAt = System.nanoTime();
+        final long handledAt = serializationStartedAt == 0L ? finishedAt : serializationStartedAt;
+        final long aggNanos = Math.max(0L, handledAt - startedAt - dbNanos);
+        final long serNanos = finishedAt - handledAt;
+
+        return String.format(Locale.ROOT,
+            "db;dur=%.1f;desc=\"%d statements\", agg;dur=%.1f, ser;dur=%.1f",
+            dbNanos / NANOS_PER_MILLI, statementCount, aggNanos / NANOS_PER_MILLI,
+            serNanos / NANOS_PER_MILLI);
+    }
+}
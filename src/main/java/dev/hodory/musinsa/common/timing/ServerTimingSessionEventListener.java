@@ -0,0 +1,35 @@
+package dev.hodory.musinsa.common.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행 시점을 {@link ServerTimingRecorder}에 기록합니다.
+ */
+public class ServerTimingSessionEventListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        final ServerTimingRecorder recorder = ServerTimingRecorder.current();
+        if (recorder != null) {
+            recorder.statementStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        final ServerTimingRecorder recorder = ServerTimingRecorder.current();
+        if (recorder != null) {
+            recorder.statementEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
@@ -0,0 +1,79 @@
+package dev.hodory.musinsa.common.version;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 응답을 계산한 카탈로그 버전을 현재 요청에 기록합니다. 기록된 버전은 {@link CatalogVersionResponseBodyAdvice}가
+ * {@value #NAME} 헤더로 내려보내므로, 클라이언트는 버전을 비교하여 오래된 응답인지 알 수 있습니다.
+ *
+ * <p>변경 API는 변경이 저장된 outbox id를 같은 헤더로 응답합니다. 클라이언트가 이 값을 {@value #MIN_VERSION_NAME}
+ * 헤더로 보내면 조회 API는 그 버전 이상의 데이터로 응답합니다.
+ */
+public final class CatalogVersionHeader {
+
+    public static final String NAME = "X-Catalog-Version";
+    public static final String MIN_VERSION_NAME = "X-Catalog-Min-Version";
+
+    private static final String ATTRIBUTE = CatalogVersionHeader.class.getName();
+
+    private CatalogVersionHeader() {
+    }
+
+    /**
+     * 요청 처리 중이 아니면 아무것도 하지 않습니다.
+     *
+     * @param version 카탈로그 버전
+     */
+    public static void record(long version) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, version, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 이미 기록된 버전보다 클 때만 기록합니다. 한 트랜잭션에서 여러 변경이 저장되어도 마지막 변경의 버전이 남습니다.
+     *
+     * @param version 카탈로그 버전
+     */
+    public static void recordAtLeast(long version) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            final Long recorded = recorded(attributes);
+            if (recorded == null || recorded < version) {
+                attributes.setAttribute(ATTRIBUTE, version, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+    }
+
+    public static Long recorded(RequestAttributes attributes) {
+        return (Long) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * 클라이언트가 {@value #MIN_VERSION_NAME} 헤더로 요청한 최소 버전을 반환합니다.
+     *
+     * @return 요청 처리 중이 아니거나 헤더가 없으면 null
+     * @throws IllegalArgumentException 헤더가 0 이상의 숫자가 아닌 경우
+     */
+    public static Long requested() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        final String value = attributes.getRequest().getHeader(MIN_VERSION_NAME);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            final long version = Long.parseLong(value.trim());
+            if (version < 0) {
+                throw new NumberFormatException(value);
+            }
+            return version;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 카탈로그 버전입니다.");
+        }
+    }
+}
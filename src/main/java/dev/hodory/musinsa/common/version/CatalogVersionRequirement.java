@@ -0,0 +1,97 @@
+package dev.hodory.musinsa.common.version;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 조회가 반영하고 있어야 하는 최소 카탈로그 버전을 제공합니다.
+ *
+ * <p>outbox 릴레이가 이벤트를 전달하는 동안에는 전달 중인 이벤트의 버전을, 요청 처리 중에는 클라이언트가
+ * {@value CatalogVersionHeader#MIN_VERSION_NAME} 헤더로 보낸 버전을 사용합니다. 복제 DB처럼 뒤처질 수 있는 저장소는
+ * 이 버전을 반영하지 못했으면 조회를 원본으로 보내야 합니다.
+ *
+ * <p>이 프로세스에서 커밋된 마지막 변경의 버전도 기록합니다. 캐시처럼 한 번 읽은 값을 다음 변경까지 재사용하는 조회는
+ * {@link #callAtLeastCommitted(Supplier)}로 실행하여 복제 DB에 아직 반영되지 않은 변경을 놓치지 않습니다.
+ */
+public final class CatalogVersionRequirement {
+
+    private static final ThreadLocal<Long> REQUIRED = new ThreadLocal<>();
+    private static final AtomicLong COMMITTED = new AtomicLong();
+
+    private CatalogVersionRequirement() {
+    }
+
+    /**
+     * {@code action}을 실행하는 동안 현재 스레드의 최소 버전을 {@code version}으로 지정합니다.
+     *
+     * @param version 최소 카탈로그 버전
+     * @param action  실행할 작업
+     */
+    public static void runAtLeast(long version, Runnable action) {
+        callAtLeast(version, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * {@code action}을 실행하는 동안 현재 스레드의 최소 버전을 {@code version}으로 지정하고 결과를 반환합니다.
+     *
+     * @param version 최소 카탈로그 버전
+     * @param action  실행할 작업
+     * @return 작업의 결과
+     */
+    public static <T> T callAtLeast(long version, Supplier<T> action) {
+        final Long previous = REQUIRED.get();
+        REQUIRED.set(version);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                REQUIRED.remove();
+            } else {
+                REQUIRED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 커밋된 변경의 버전을 기록합니다. 이미 기록된 버전보다 클 때만 기록합니다.
+     *
+     * @param version 커밋된 변경의 outbox id
+     */
+    public static void recordCommitted(long version) {
+        COMMITTED.accumulateAndGet(version, Math::max);
+    }
+
+    /**
+     * 이 프로세스에서 커밋된 마지막 변경 이상을 반영한 데이터로 {@code action}을 실행합니다. 현재 요구되는 버전이 더
+     * 크면 그 버전을 그대로 사용합니다.
+     *
+     * @param action 실행할 작업
+     * @return 작업의 결과
+     */
+    public static <T> T callAtLeastCommitted(Supplier<T> action) {
+        final long committed = COMMITTED.get();
+        final Long required;
+        try {
+            required = current();
+        } catch (IllegalArgumentException e) {
+            // 잘못된 헤더면 라우팅이 원본 DB로 보내므로 그대로 실행합니다.
+            return action.get();
+        }
+        if (committed == 0 || (required != null && required >= committed)) {
+            return action.get();
+        }
+        return callAtLeast(committed, action);
+    }
+
+    /**
+     * @return 요구되는 버전이 없으면 null
+     * @throws IllegalArgumentException 요청 헤더가 0 이상의 숫자가 아닌 경우
+     */
+    public static Long current() {
+        final Long required = REQUIRED.get();
+        return required != null ? required : CatalogVersionHeader.requested();
+    }
+}
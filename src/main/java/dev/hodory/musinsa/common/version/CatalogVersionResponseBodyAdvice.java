@@ -0,0 +1,38 @@
+package dev.hodory.musinsa.common.version;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link CatalogVersioned} API의 응답에 요청에 기록된 카탈로그 버전을 {@value CatalogVersionHeader#NAME} 헤더로 추가합니다.
+ */
+@ControllerAdvice
+public class CatalogVersionResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+        Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CatalogVersioned.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType,
+        MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request, ServerHttpResponse response) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            final Long version = CatalogVersionHeader.recorded(attributes);
+            if (version != null) {
+                response.getHeaders().set(CatalogVersionHeader.NAME, String.valueOf(version));
+            }
+        }
+        return body;
+    }
+}
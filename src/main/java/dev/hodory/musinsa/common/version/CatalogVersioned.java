@@ -0,0 +1,18 @@
+package dev.hodory.musinsa.common.version;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청에 기록된 카탈로그 버전을 {@value CatalogVersionHeader#NAME} 헤더로 응답하는 API입니다. 카탈로그 조회 API와 카탈로그를
+ * 변경하는 API에만 지정하며, 예외 처리기가 만든 에러 응답에는 헤더를 추가하지 않습니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogVersioned {
+
+}
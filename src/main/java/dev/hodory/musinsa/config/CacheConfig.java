@@ -0,0 +1,32 @@
+package dev.hodory.musinsa.config;
+
+import dev.hodory.musinsa.common.cache.CategoryMaskCache;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 조회 결과 캐시를 설정합니다.
+ * 캐시 삭제는 트랜잭션이 커밋된 뒤에 실행되어, 커밋 전에 다른 요청이 이전 데이터를 다시 캐시하지 않도록 합니다.
+ * 삭제되는 동안 계산 중이던 값은 {@link CategoryMaskCache}가 저장하지 않습니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String LOWEST_PRICE_BASKET = "lowestPriceBasket";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "musinsa.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager cacheManager() {
+        final SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new CategoryMaskCache(LOWEST_PRICE_BASKET)));
+        cacheManager.afterPropertiesSet();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,90 @@
+package dev.hodory.musinsa.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.hodory.musinsa.common.datasource.H2ReplicationShim;
+import dev.hodory.musinsa.common.datasource.ReadWriteRoutingDataSource;
+import dev.hodory.musinsa.common.datasource.ReplicaProperties;
+import dev.hodory.musinsa.common.outbox.OutboxProperties;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * musinsa.replica.enabled=true 일 때 spring.datasource를 원본 DB로, musinsa.replica를 복제 DB로 사용하고,
+ * 애플리케이션에는 읽기 전용 여부에 따라 둘 중 하나로 보내는 DataSource를 제공합니다.
+ * 복제 DB는 {@link H2ReplicationShim}이 원본 H2를 주기적으로 복사하여 채웁니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "musinsa.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final int SHIM_POOL_SIZE = 1;
+
+    /**
+     * 기본 DataSource와 같이 spring.datasource.hikari 설정을 적용합니다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource(ReplicaProperties replicaProperties) {
+        return replicaDataSourceBuilder(replicaProperties).build();
+    }
+
+    /**
+     * 복사는 애플리케이션의 커넥션 풀과 느린 쿼리 측정에 섞이지 않도록 빈으로 등록하지 않은 별도의 풀을 사용합니다.
+     */
+    @Bean
+    public H2ReplicationShim h2ReplicationShim(DataSourceProperties dataSourceProperties,
+        ReplicaProperties replicaProperties, OutboxProperties outboxProperties) {
+        final HikariDataSource source = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        final HikariDataSource target = replicaDataSourceBuilder(replicaProperties).build();
+        configureShimPool(source, "replication-shim-primary");
+        configureShimPool(target, "replication-shim-replica");
+        return new H2ReplicationShim(source, target, replicaProperties.getTables(),
+            outboxProperties.getGapTimeout());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        H2ReplicationShim h2ReplicationShim, ReplicaProperties replicaProperties) {
+        final ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+            primaryDataSource, replicaDataSource, h2ReplicationShim,
+            replicaProperties.getMaxLag());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private DataSourceBuilder<HikariDataSource> replicaDataSourceBuilder(
+        ReplicaProperties replicaProperties) {
+        return DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(replicaProperties.getUrl())
+            .username(replicaProperties.getUsername())
+            .password(replicaProperties.getPassword());
+    }
+
+    private void configureShimPool(HikariDataSource dataSource, String poolName) {
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(SHIM_POOL_SIZE);
+        dataSource.setMinimumIdle(SHIM_POOL_SIZE);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.hodory.musinsa.config;
+
+import dev.hodory.musinsa.common.timing.ServerTimingFilter;
+import dev.hodory.musinsa.common.timing.ServerTimingSessionEventListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * musinsa.server-timing.enabled=true 일 때만 Server-Timing 기록에 필요한 필터와 Hibernate 리스너를 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "musinsa.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    private static final String SESSION_EVENTS_AUTO = "hibernate.session.events.auto";
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        final FilterRegistrationBean<ServerTimingFilter> registration =
+            new FilterRegistrationBean<>(new ServerTimingFilter());
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer serverTimingHibernatePropertiesCustomizer() {
+        return properties -> properties.put(SESSION_EVENTS_AUTO,
+            ServerTimingSessionEventListener.class.getName());
+    }
+}
@@ -0,0 +1,28 @@
+package dev.hodory.musinsa.config;
+
+import dev.hodory.musinsa.common.sql.SlowQueryDataSourcePostProcessor;
+import dev.hodory.musinsa.common.sql.SlowQueryDetector;
+import dev.hodory.musinsa.common.sql.SlowQueryProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+@ConditionalOnProperty(prefix = "musinsa.slow-query", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public static SlowQueryDataSourcePostProcessor slowQueryDataSourcePostProcessor(
+        ObjectProvider<SlowQueryDetector> slowQueryDetector) {
+        return new SlowQueryDataSourcePostProcessor(slowQueryDetector);
+    }
+
+    @Bean
+    public SlowQueryDetector slowQueryDetector(SlowQueryProperties slowQueryProperties) {
+        return new SlowQueryDetector(slowQueryProperties);
+    }
+}
@@ -1,13 +1,27 @@
 package dev.hodory.musinsa.product.controller;
 
 import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.dto.BasketDTO;
+import dev.hodory.musinsa.product.domain.dto.CategoryCheapestProductsDTO;
+import dev.hodory.musinsa.product.domain.dto.DashboardDTO;
+import dev.hodory.musinsa.product.domain.dto.PriceQuantileDTO;
 import dev.hodory.musinsa.product.domain.dto.ProductLowestAndHighestDTO;
 import dev.hodory.musinsa.product.domain.dto.ProductListDTO;
 import dev.hodory.musinsa.common.dto.ResponseDTO;
+import dev.hodory.musinsa.common.version.CatalogVersioned;
 import dev.hodory.musinsa.product.domain.dto.ProductDTO;
+import dev.hodory.musinsa.product.domain.dto.ProductPageDTO;
+import dev.hodory.musinsa.product.service.LowestPriceStreamService;
+import dev.hodory.musinsa.product.service.PriceQuantileService;
 import dev.hodory.musinsa.product.service.ProductService;
 import jakarta.validation.Valid;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/products")
@@ -25,8 +40,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
     private final ProductService service;
+    private final PriceQuantileService priceQuantileService;
+    private final LowestPriceStreamService lowestPriceStreamService;
 
     @PostMapping
+    @CatalogVersioned
     public ResponseEntity<ResponseDTO> addProduct(@RequestBody @Valid ProductDTO.CreateRequest createRequest) {
         final ProductDTO dto = ProductDTO.of(createRequest);
         final ProductDTO.Response response = service.addProduct(dto);
@@ -35,6 +53,7 @@ public class ProductController {
     }
 
     @PutMapping("/{id}")
+    @CatalogVersioned
     public ResponseEntity<ResponseDTO> updateProduct(@PathVariable("id") Long id,
         @RequestBody @Valid ProductDTO.UpdateRequest request) {
         final ProductDTO dto = ProductDTO.of(request);
@@ -44,29 +63,107 @@ public class ProductController {
     }
 
     @DeleteMapping("/{id}")
+    @CatalogVersioned
     public ResponseEntity<ResponseDTO> deleteProduct(@PathVariable("id") Long id) {
         final ProductDTO.Response response = service.deleteProduct(id);
 
         return ResponseEntity.ok(ResponseDTO.of(response));
     }
 
+    @GetMapping
+    public ResponseEntity<ResponseDTO> getProducts(
+        @RequestParam(value = "category", required = false) String category,
+        @RequestParam(value = "brand_id", required = false) Long brandId,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "size", defaultValue = "20") int size) {
+        final ProductPageDTO page = service.getProducts(category, brandId, after, size);
+
+        return ResponseEntity.ok(ResponseDTO.of(page));
+    }
+
     @GetMapping(value = "/lowest-price")
+    @CatalogVersioned
     public ResponseEntity<ProductListDTO> getLowestPricePerCategory() {
         final ProductListDTO list = service.getLowestPricePerCategory();
         return ResponseEntity.ok(list);
     }
 
+    @GetMapping(value = "/cheapest")
+    public ResponseEntity<ResponseDTO> getCheapestProductsPerCategory(
+        @RequestParam(value = "k", defaultValue = "5") int k) {
+        final List<CategoryCheapestProductsDTO> list = service.getCheapestProductsPerCategory(k);
+
+        return ResponseEntity.ok(ResponseDTO.of(list));
+    }
+
+    @GetMapping(value = "/lowest-price/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLowestPrice() {
+        return lowestPriceStreamService.subscribe();
+    }
+
     @GetMapping(value = "/lowest-brand")
+    @CatalogVersioned
     public ResponseEntity<BrandProductDTO.Response> getLowestProductBrand() {
         final BrandProductDTO list = service.getLowestPriceBrand();
         final BrandProductDTO.Response result = BrandProductDTO.Response.of(list);
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping(value = "/lowest-brand/ranking")
+    @CatalogVersioned
+    public ResponseEntity<ResponseDTO> getLowestProductBrandRanking(
+        @RequestParam(value = "n", defaultValue = "10") int n) {
+        final List<BrandProductDTO> ranking = service.getLowestPriceBrandRanking(n);
+        return ResponseEntity.ok(ResponseDTO.of(ranking));
+    }
+
+    @GetMapping(value = "/lowest-brand/basket")
+    public ResponseEntity<BrandProductDTO.Response> getLowestProductBrandForBasket(
+        @RequestParam("categories") Set<String> categories) {
+        final BrandProductDTO brand = service.getLowestPriceBrand(toCategoryInfos(categories));
+        return ResponseEntity.ok(BrandProductDTO.Response.of(brand));
+    }
+
+    @GetMapping(value = "/basket/optimal")
+    public ResponseEntity<ResponseDTO> getOptimalBasket(
+        @RequestParam("categories") Set<String> categories,
+        @RequestParam(value = "max_brands", defaultValue = "2") int maxBrands) {
+        final BasketDTO basket = service.getOptimalBasket(toCategoryInfos(categories), maxBrands);
+        return ResponseEntity.ok(ResponseDTO.of(basket));
+    }
+
+    @GetMapping(value = "/dashboard")
+    @CatalogVersioned
+    public ResponseEntity<ResponseDTO> getDashboard() {
+        final DashboardDTO dashboard = service.getDashboard();
+        return ResponseEntity.ok(ResponseDTO.of(dashboard));
+    }
+
     @GetMapping(value = "/category")
+    @CatalogVersioned
     public ResponseEntity<ProductLowestAndHighestDTO> getLowestAndHighestProduct(@RequestParam("title") String title) {
         final ProductLowestAndHighestDTO list = service.getLowestAndHighestPriceBrandByCategoryName(title);
 
         return ResponseEntity.ok(list);
     }
+
+    @GetMapping(value = "/category/quantiles")
+    public ResponseEntity<ResponseDTO> getCategoryQuantiles(@RequestParam("title") String title) {
+        final PriceQuantileDTO quantiles = priceQuantileService.getCategoryQuantiles(title);
+
+        return ResponseEntity.ok(ResponseDTO.of(quantiles));
+    }
+
+    @GetMapping(value = "/brand/quantiles")
+    public ResponseEntity<ResponseDTO> getBrandQuantiles(@RequestParam("brand_id") Long brandId) {
+        final PriceQuantileDTO quantiles = priceQuantileService.getBrandQuantiles(brandId);
+
+        return ResponseEntity.ok(ResponseDTO.of(quantiles));
+    }
+
+    private EnumSet<CategoryInfo> toCategoryInfos(Set<String> codes) {
+        return codes.stream()
+            .map(CategoryInfo::findByCode)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(CategoryInfo.class)));
+    }
 }
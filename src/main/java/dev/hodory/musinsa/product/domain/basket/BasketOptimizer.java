@@ -0,0 +1,114 @@
+package dev.hodory.musinsa.product.domain.basket;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 조합을 최대 k개 브랜드에 나누어 구매할 때 총액이 가장 낮은 배정을 찾습니다.
+ *
+ * <p>카테고리가 C개일 때 먼저 부분집합마다 한 브랜드로 구매하는 최저가(best1)를 구하고 (O(B * 2^C)),
+ * 부분집합을 나누는 동적 계획법으로 브랜드 수를 늘려 갑니다 (O(k * 3^C)). 브랜드 수가 늘어나도 두 번째 단계의 비용은 변하지 않습니다.
+ */
+public final class BasketOptimizer {
+
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    private BasketOptimizer() {
+    }
+
+    /**
+     * @param coverages    브랜드 ID 오름차순 커버리지
+     * @param categoryMask 카테고리 조합 비트마스크
+     * @param maxBrands    최대 브랜드 수
+     * @return 브랜드별 배정, 조합을 구매할 수 없으면 빈 리스트
+     */
+    public static List<Assignment> optimize(List<BrandCoverage> coverages, int categoryMask,
+        int maxBrands) {
+        final int size = categoryMask + 1;
+
+        // best1[S]: 부분집합 S를 한 브랜드에서 구매하는 최저가
+        final long[] best1 = new long[size];
+        final BrandCoverage[] best1Brand = new BrandCoverage[size];
+        Arrays.fill(best1, INF);
+        for (BrandCoverage coverage : coverages) {
+            final int available = coverage.getMask() & categoryMask;
+            for (int sub = available; sub > 0; sub = (sub - 1) & available) {
+                final long total = coverage.totalPrice(sub);
+                if (total < best1[sub]) {
+                    best1[sub] = total;
+                    best1Brand[sub] = coverage;
+                }
+            }
+        }
+
+        // dp[S]: 부분집합 S를 현재 브랜드 수 이하로 구매하는 최저가, split[S]: 마지막 브랜드에 배정한 부분집합
+        long[] dp = best1.clone();
+        dp[0] = 0;
+        final int[][] splits = new int[maxBrands + 1][size];
+        for (int sub = 1; sub < size; sub++) {
+            splits[1][sub] = sub;
+        }
+
+        for (int brands = 2; brands <= maxBrands; brands++) {
+            final long[] next = dp.clone();
+            System.arraycopy(splits[brands - 1], 0, splits[brands], 0, size);
+
+            for (int set = categoryMask; set > 0; set = (set - 1) & categoryMask) {
+                // 가장 낮은 비트를 포함하는 부분집합만 마지막 브랜드에 배정하여 같은 분할을 반복하지 않습니다.
+                final int lowest = set & -set;
+                final int rest = set ^ lowest;
+                for (int extra = rest; ; extra = (extra - 1) & rest) {
+                    final int part = extra | lowest;
+                    final int remain = set ^ part;
+                    if (remain != 0 && best1[part] < INF && dp[remain] < INF) {
+                        final long total = best1[part] + dp[remain];
+                        if (total < next[set]) {
+                            next[set] = total;
+                            splits[brands][set] = part;
+                        }
+                    }
+                    if (extra == 0) {
+                        break;
+                    }
+                }
+            }
+            dp = next;
+        }
+
+        if (dp[categoryMask] >= INF) {
+            return List.of();
+        }
+
+        return collect(best1Brand, splits, categoryMask, maxBrands);
+    }
+
+    private static List<Assignment> collect(BrandCoverage[] best1Brand, int[][] splits,
+        int categoryMask, int maxBrands) {
+        // 서로 다른 부분집합에 같은 브랜드가 선택되면 하나로 합칩니다.
+        final Map<Long, Assignment> assignments = new LinkedHashMap<>();
+        int set = categoryMask;
+        int brands = maxBrands;
+        while (set != 0) {
+            final int part = splits[brands][set];
+            final BrandCoverage coverage = best1Brand[part];
+            assignments.merge(coverage.getBrandId(), new Assignment(coverage, part),
+                (left, right) -> new Assignment(coverage, left.categoryMask() | right.categoryMask()));
+            set ^= part;
+            brands--;
+        }
+        return new ArrayList<>(assignments.values());
+    }
+
+    /**
+     * 브랜드와 해당 브랜드에서 구매할 카테고리 조합입니다.
+     */
+    public record Assignment(BrandCoverage coverage, int categoryMask) {
+
+        public long totalPrice() {
+            return coverage.totalPrice(categoryMask);
+        }
+    }
+}
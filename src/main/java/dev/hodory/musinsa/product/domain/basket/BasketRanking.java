@@ -0,0 +1,60 @@
+package dev.hodory.musinsa.product.domain.basket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 카테고리 조합을 모두 가진 브랜드를 합계 오름차순으로 N개 까지 선택합니다.
+ * 크기가 N인 최대 힙만 유지하므로 브랜드 수가 B일 때 O(B log N) 시간, O(N) 메모리를 사용합니다.
+ */
+public final class BasketRanking {
+
+    /**
+     * 합계가 같으면 브랜드 ID가 작은 브랜드가 앞에 옵니다.
+     */
+    private static final Comparator<Candidate> ORDER = Comparator
+        .comparingLong(Candidate::total)
+        .thenComparing(candidate -> candidate.coverage().getBrandId());
+
+    private BasketRanking() {
+    }
+
+    /**
+     * @param coverages    브랜드별 커버리지
+     * @param categoryMask 카테고리 조합 비트마스크
+     * @param size         선택할 브랜드 수
+     * @return 합계 오름차순 브랜드 커버리지
+     */
+    public static List<BrandCoverage> top(List<BrandCoverage> coverages, int categoryMask,
+        int size) {
+        final PriorityQueue<Candidate> heap = new PriorityQueue<>(size + 1, ORDER.reversed());
+
+        for (BrandCoverage coverage : coverages) {
+            if (!coverage.covers(categoryMask)) {
+                continue;
+            }
+
+            final Candidate candidate = new Candidate(coverage, coverage.totalPrice(categoryMask));
+            if (heap.size() < size) {
+                heap.offer(candidate);
+            } else if (ORDER.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(candidate);
+            }
+        }
+
+        final List<BrandCoverage> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().coverage());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private record Candidate(BrandCoverage coverage, long total) {
+
+    }
+}
@@ -0,0 +1,79 @@
+package dev.hodory.musinsa.product.domain.basket;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 브랜드가 상품을 가진 카테고리의 비트마스크와 카테고리별 최저가입니다.
+ * 카테고리 조합을 모두 가진 브랜드인지는 비트 연산 한 번으로 확인합니다.
+ */
+@Getter
+public class BrandCoverage {
+
+    private final Long brandId;
+    private final String brandName;
+    private final ProductInfo[] minimums = new ProductInfo[CategoryInfo.values().length];
+    private int mask;
+
+    private BrandCoverage(Long brandId, String brandName) {
+        this.brandId = brandId;
+        this.brandName = brandName;
+    }
+
+    /**
+     * 브랜드, 카테고리별 최저가 목록으로 브랜드별 커버리지를 만듭니다.
+     *
+     * @param productInfos 브랜드, 카테고리별 최저가 리스트
+     * @return 브랜드 ID 순서의 커버리지 리스트
+     */
+    public static List<BrandCoverage> of(List<ProductInfo> productInfos) {
+        final Map<Long, BrandCoverage> coverages = new LinkedHashMap<>();
+        for (ProductInfo productInfo : productInfos) {
+            coverages.computeIfAbsent(productInfo.getBrandId(),
+                    brandId -> new BrandCoverage(brandId, productInfo.getBrandName()))
+                .add(productInfo);
+        }
+        return new ArrayList<>(coverages.values());
+    }
+
+    private void add(ProductInfo productInfo) {
+        final CategoryInfo category = CategoryInfo.findByTitle(productInfo.getCategoryName());
+        minimums[category.ordinal()] = productInfo;
+        mask |= category.bit();
+    }
+
+    public boolean covers(int categoryMask) {
+        return (mask & categoryMask) == categoryMask;
+    }
+
+    /**
+     * 카테고리 조합의 최저가 합계를 계산합니다. 조합을 모두 가진 브랜드에서만 호출해야 합니다.
+     *
+     * @param categoryMask 카테고리 조합 비트마스크
+     * @return 최저가 합계
+     */
+    public long totalPrice(int categoryMask) {
+        long total = 0;
+        for (CategoryInfo category : CategoryInfo.fromMask(categoryMask)) {
+            total += minimums[category.ordinal()].getPrice();
+        }
+        return total;
+    }
+
+    /**
+     * 카테고리 조합의 최저가 상품을 카테고리 순서로 반환합니다.
+     *
+     * @param categoryMask 카테고리 조합 비트마스크
+     * @return 카테고리별 최저가 리스트
+     */
+    public List<ProductInfo> products(int categoryMask) {
+        return CategoryInfo.fromMask(categoryMask).stream()
+            .map(category -> minimums[category.ordinal()])
+            .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.hodory.musinsa.product.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.utils.PriceFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BasketDTO {
+
+    private List<BrandProductDTO> brands = new ArrayList<>();
+    @JsonIgnore
+    private Long totalPrice;
+    @JsonProperty("total_price")
+    private String formattedTotalPrice;
+
+    @Builder
+    private BasketDTO(List<BrandProductDTO> brands, Long totalPrice) {
+        this.brands = brands;
+        this.totalPrice = totalPrice;
+        this.formattedTotalPrice = PriceFormatter.format(totalPrice);
+    }
+
+    public static BasketDTO of(List<BrandProductDTO> brands) {
+        final long totalPrice = brands.stream().mapToLong(BrandProductDTO::getTotalPrice).sum();
+
+        return BasketDTO.builder()
+            .brands(brands)
+            .totalPrice(totalPrice)
+            .build();
+    }
+}
@@ -0,0 +1,38 @@
+package dev.hodory.musinsa.product.domain.dto;
+
+import dev.hodory.musinsa.brand.domain.dto.BrandPriceDTO;
+import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
+import dev.hodory.musinsa.utils.PriceFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryCheapestProductsDTO {
+
+    private String category;
+    private List<BrandPriceDTO> products = new ArrayList<>();
+
+    @Builder
+    private CategoryCheapestProductsDTO(String category, List<BrandPriceDTO> products) {
+        this.category = category;
+        this.products = products;
+    }
+
+    public static CategoryCheapestProductsDTO of(String category,
+        List<LowestPriceProductDTO> products) {
+        return CategoryCheapestProductsDTO.builder()
+            .category(category)
+            .products(products.stream()
+                .map(product -> BrandPriceDTO.builder()
+                    .brand(product.getBrand())
+                    .price(PriceFormatter.format(product.getPrice()))
+                    .build())
+                .toList())
+            .build();
+    }
+}
@@ -0,0 +1,30 @@
+package dev.hodory.musinsa.product.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DashboardDTO {
+
+    @JsonProperty("lowest_price")
+    private ProductListDTO lowestPrice;
+
+    @JsonProperty("lowest_brand")
+    private BrandProductDTO lowestBrand;
+
+    private List<ProductLowestAndHighestDTO> categories;
+
+    @Builder
+    private DashboardDTO(ProductListDTO lowestPrice, BrandProductDTO lowestBrand,
+        List<ProductLowestAndHighestDTO> categories) {
+        this.lowestPrice = lowestPrice;
+        this.lowestBrand = lowestBrand;
+        this.categories = categories;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.hodory.musinsa.product.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최저가 스트림으로 전송하는 이벤트입니다. 변경된 카테고리의 최저가와, 변경되었을 때만 최저가 브랜드를 담습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LowestPriceChangeDTO {
+
+    private List<LowestProductPerCategoryDTO> categories = new ArrayList<>();
+    @JsonProperty("removed_categories")
+    private List<String> removedCategories = new ArrayList<>();
+    @JsonProperty("lowest_brand")
+    private BrandProductDTO lowestBrand;
+
+    @Builder
+    private LowestPriceChangeDTO(List<LowestProductPerCategoryDTO> categories,
+        List<String> removedCategories, BrandProductDTO lowestBrand) {
+        this.categories = categories;
+        this.removedCategories = removedCategories;
+        this.lowestBrand = lowestBrand;
+    }
+}
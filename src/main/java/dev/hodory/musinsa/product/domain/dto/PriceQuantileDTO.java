@@ -0,0 +1,45 @@
+package dev.hodory.musinsa.product.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.hodory.musinsa.product.domain.stats.PriceQuantileSketch;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PriceQuantileDTO {
+
+    private String name;
+    private long count;
+    private Long p50;
+    private Long p90;
+    private Long p99;
+    @JsonProperty("relative_accuracy")
+    private double relativeAccuracy;
+
+    @Builder
+    private PriceQuantileDTO(String name, long count, Long p50, Long p90, Long p99,
+        double relativeAccuracy) {
+        this.name = name;
+        this.count = count;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.relativeAccuracy = relativeAccuracy;
+    }
+
+    public static PriceQuantileDTO of(String name, PriceQuantileSketch sketch) {
+        final Long[] quantiles = sketch.quantiles(0.5, 0.9, 0.99);
+
+        return PriceQuantileDTO.builder()
+            .name(name)
+            .count(sketch.count())
+            .p50(quantiles[0])
+            .p90(quantiles[1])
+            .p99(quantiles[2])
+            .relativeAccuracy(PriceQuantileSketch.RELATIVE_ACCURACY)
+            .build();
+    }
+}
@@ -0,0 +1,55 @@
+package dev.hodory.musinsa.product.domain.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 목록 keyset 페이지네이션의 위치입니다. (price, id) 순서에서 마지막으로 응답한 상품을 가리킵니다.
+ * 클라이언트에는 내부 구조를 노출하지 않도록 Base64 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final Long price;
+    private final Long id;
+
+    public static ProductCursor of(ProductDTO.Response product) {
+        return new ProductCursor(product.getPrice(), product.getId());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param value 커서 문자열
+     * @return 커서, 값이 없으면 null
+     */
+    public static ProductCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(value),
+                StandardCharsets.UTF_8);
+            final String[] tokens = decoded.split(DELIMITER);
+            if (tokens.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ProductCursor(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        final String value = price + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,51 @@
+package dev.hodory.musinsa.product.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductPageDTO {
+
+    private List<ProductDTO.Response> products = new ArrayList<>();
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @JsonProperty("has_next")
+    private boolean hasNext;
+
+    @Builder
+    private ProductPageDTO(List<ProductDTO.Response> products, String nextCursor,
+        boolean hasNext) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * 요청한 크기보다 하나 더 조회한 결과로 페이지를 만듭니다.
+     *
+     * @param products 조회된 상품 (최대 size + 1개)
+     * @param size     페이지 크기
+     * @return 상품 페이지
+     */
+    public static ProductPageDTO of(List<ProductDTO.Response> products, int size) {
+        final boolean hasNext = products.size() > size;
+        final List<ProductDTO.Response> page = hasNext ? products.subList(0, size) : products;
+        final String nextCursor = hasNext
+            ? ProductCursor.of(page.get(page.size() - 1)).encode()
+            : null;
+
+        return ProductPageDTO.builder()
+            .products(page)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+}
@@ -2,13 +2,14 @@ package dev.hodory.musinsa.product.domain.entity;
 
 import dev.hodory.musinsa.brand.domain.entity.Brand;
 import dev.hodory.musinsa.category.domain.entity.Category;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,12 @@ import lombok.Setter;
 
 @Getter
 @Entity(name = "product")
+@Table(name = "product", indexes = {
+    @Index(name = "idx_product_price_id", columnList = "price, id"),
+    @Index(name = "idx_product_category_price_id", columnList = "category_id, price, id"),
+    @Index(name = "idx_product_brand_price_id", columnList = "brand_id, price, id"),
+    @Index(name = "idx_product_brand_id", columnList = "brand_id, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
 
@@ -24,12 +31,12 @@ public class Product {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Setter
     private Brand brand;
 
     @Setter
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Category category;
 
     @Setter
@@ -12,15 +12,26 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ProductInfo {
 
+    /**
+     * 가격이 한 상품을 가리키지 않는 집계 결과면 null입니다.
+     */
+    private Long productId;
     private Long brandId;
     private String brandName;
     private Long categoryId;
     private String categoryName;
     private Long price;
 
-    @Builder
     @QueryProjection
     public ProductInfo(Long brandId, String brandName, Long categoryId, String categoryName, Long price) {
+        this(null, brandId, brandName, categoryId, categoryName, price);
+    }
+
+    @Builder
+    @QueryProjection
+    public ProductInfo(Long productId, Long brandId, String brandName, Long categoryId,
+        String categoryName, Long price) {
+        this.productId = productId;
         this.brandId = brandId;
         this.brandName = brandName;
         this.categoryId = categoryId;
@@ -30,6 +41,7 @@ public class ProductInfo {
 
     public static ProductInfo of(Product product) {
         return ProductInfo.builder()
+            .productId(product.getId())
             .brandId(product.getBrand().getId())
             .brandName(product.getBrand().getName())
             .categoryId(product.getCategory().getId())
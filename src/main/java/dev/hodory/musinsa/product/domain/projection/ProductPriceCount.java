@@ -0,0 +1,30 @@
+package dev.hodory.musinsa.product.domain.projection;
+
+import com.querydsl.core.annotations.QueryProjection;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 브랜드, 카테고리, 가격별 상품 수입니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductPriceCount {
+
+    private Long brandId;
+    private CategoryInfo category;
+    private Long price;
+    private Long count;
+
+    @Builder
+    @QueryProjection
+    public ProductPriceCount(Long brandId, CategoryInfo category, Long price, Long count) {
+        this.brandId = brandId;
+        this.category = category;
+        this.price = price;
+        this.count = count;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.hodory.musinsa.product.domain.projection;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 브랜드, 카테고리별 최저가와 최고가입니다. 최저가 상품이 여러 개면 {@code lowestProductId}는 그중 가장 큰 상품 ID입니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductPriceRange {
+
+    private Long brandId;
+    private String brandName;
+    private Long categoryId;
+    private String categoryName;
+    private Long minPrice;
+    private Long maxPrice;
+    private Long lowestProductId;
+
+    @Builder
+    @QueryProjection
+    public ProductPriceRange(Long brandId, String brandName, Long categoryId, String categoryName,
+        Long minPrice, Long maxPrice, Long lowestProductId) {
+        this.brandId = brandId;
+        this.brandName = brandName;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.lowestProductId = lowestProductId;
+    }
+
+    public ProductInfo lowest() {
+        return toProductInfo(lowestProductId, minPrice);
+    }
+
+    public ProductInfo highest() {
+        return toProductInfo(null, maxPrice);
+    }
+
+    private ProductInfo toProductInfo(Long productId, Long price) {
+        return ProductInfo.builder()
+            .productId(productId)
+            .brandId(brandId)
+            .brandName(brandName)
+            .categoryId(categoryId)
+            .categoryName(categoryName)
+            .price(price)
+            .build();
+    }
+}
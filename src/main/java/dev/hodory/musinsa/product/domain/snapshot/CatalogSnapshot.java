@@ -0,0 +1,100 @@
+package dev.hodory.musinsa.product.domain.snapshot;
+
+import dev.hodory.musinsa.product.domain.basket.BrandCoverage;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * 브랜드, 카테고리별 최소/최대 가격 한 번의 집계로 만든 불변 카탈로그 스냅샷입니다.
+ * 카테고리별 최저가, 카테고리별 최저가/최고가 브랜드, 브랜드별 카테고리 커버리지를 담습니다.
+ *
+ * <p>만든 뒤에는 변경하지 않으므로 여러 스레드가 잠금 없이 함께 읽을 수 있습니다.
+ * {@code version}은 스냅샷에 반영된 마지막 outbox id입니다.
+ */
+@Getter
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final List<ProductInfo> lowestPerCategory;
+    private final List<CategoryRange> categoryRanges;
+    private final List<BrandCoverage> coverages;
+
+    private CatalogSnapshot(long version, List<ProductInfo> lowestPerCategory,
+        List<CategoryRange> categoryRanges, List<BrandCoverage> coverages) {
+        this.version = version;
+        this.lowestPerCategory = lowestPerCategory;
+        this.categoryRanges = categoryRanges;
+        this.coverages = coverages;
+    }
+
+    /**
+     * 브랜드, 카테고리별 최소/최대 가격으로 스냅샷을 만듭니다.
+     * 최저가가 같은 상품이 여러 개인 카테고리의 최저가는 DB 조회({@code findLowestPricePerCategory})와 같이 상품 ID가 가장
+     * 큰 상품으로 정합니다.
+     *
+     * @param version 반영된 마지막 outbox id
+     * @param ranges  카테고리 ID, 브랜드 ID 순서의 최소/최대 가격 리스트
+     * @return 스냅샷
+     */
+    public static CatalogSnapshot of(long version, List<ProductPriceRange> ranges) {
+        final Map<Long, List<ProductPriceRange>> rangesByCategory = new LinkedHashMap<>();
+        for (ProductPriceRange range : ranges) {
+            rangesByCategory.computeIfAbsent(range.getCategoryId(), id -> new ArrayList<>())
+                .add(range);
+        }
+
+        final List<ProductInfo> lowestPerCategory = new ArrayList<>();
+        final List<CategoryRange> categoryRanges = new ArrayList<>();
+        for (List<ProductPriceRange> rangesOfCategory : rangesByCategory.values()) {
+            final long min = rangesOfCategory.stream()
+                .mapToLong(ProductPriceRange::getMinPrice).min().orElseThrow();
+            final long max = rangesOfCategory.stream()
+                .mapToLong(ProductPriceRange::getMaxPrice).max().orElseThrow();
+            final List<ProductInfo> lowest = rangesOfCategory.stream()
+                .filter(range -> range.getMinPrice() == min)
+                .map(ProductPriceRange::lowest)
+                .toList();
+            final List<ProductInfo> highest = rangesOfCategory.stream()
+                .filter(range -> range.getMaxPrice() == max)
+                .map(ProductPriceRange::highest)
+                .toList();
+
+            lowestPerCategory.add(lowest.stream()
+                .max(Comparator.comparing(ProductInfo::getProductId,
+                    Comparator.nullsFirst(Comparator.naturalOrder())))
+                .orElseThrow());
+            categoryRanges.add(new CategoryRange(lowest.get(0).getCategoryName(), lowest, highest));
+        }
+
+        return new CatalogSnapshot(version, List.copyOf(lowestPerCategory),
+            List.copyOf(categoryRanges),
+            List.copyOf(BrandCoverage.of(ranges.stream().map(ProductPriceRange::lowest).toList())));
+    }
+
+    /**
+     * 카테고리 이름으로 최저가/최고가 브랜드를 찾습니다.
+     *
+     * @param category 카테고리 이름
+     * @return 상품이 없는 카테고리면 empty
+     */
+    public Optional<CategoryRange> findCategoryRange(String category) {
+        return categoryRanges.stream()
+            .filter(range -> range.category().equals(category))
+            .findFirst();
+    }
+
+    /**
+     * 카테고리의 최저가, 최고가 상품 리스트입니다. 같은 가격의 브랜드가 여러 개면 모두 담습니다.
+     */
+    public record CategoryRange(String category, List<ProductInfo> lowest,
+                                List<ProductInfo> highest) {
+
+    }
+}
@@ -0,0 +1,144 @@
+package dev.hodory.musinsa.product.domain.stats;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 가격 분위수를 근사하는 DDSketch 방식의 스케치입니다.
+ *
+ * <p>가격을 로그 스케일 구간(gamma = (1 + α) / (1 - α))으로 나누어 구간별 개수만 저장합니다.
+ * 반환하는 분위수 값 v와 실제 분위수 값 x 사이에는 정수 반올림을 제외하면 |v - x| &lt;= α * x 가 성립하며 (α = {@value #RELATIVE_ACCURACY}),
+ * 구간 수는 가격 범위의 로그에 비례하므로 상품 수와 관계없이 메모리 사용량이 작습니다.
+ * 구간별 개수는 더하고 뺄 수 있으므로 상품 삭제를 반영할 수 있고, 두 스케치를 합쳐도 같은 오차 한계를 유지합니다.
+ */
+public class PriceQuantileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    public synchronized void add(long price, long quantity) {
+        if (price <= 0) {
+            zeroCount += quantity;
+        } else {
+            buckets.merge(indexOf(price), quantity, Long::sum);
+        }
+        count += quantity;
+    }
+
+    public synchronized void remove(long price, long quantity) {
+        if (price <= 0) {
+            final long removed = Math.min(zeroCount, quantity);
+            zeroCount -= removed;
+            count -= removed;
+            return;
+        }
+
+        final int index = indexOf(price);
+        final Long current = buckets.get(index);
+        if (current == null) {
+            return;
+        }
+
+        final long removed = Math.min(current, quantity);
+        if (current == removed) {
+            buckets.remove(index);
+        } else {
+            buckets.put(index, current - removed);
+        }
+        count -= removed;
+    }
+
+    /**
+     * 같은 구간별 개수를 가진 새 스케치를 만듭니다. 사본을 변경해도 원본은 바뀌지 않습니다.
+     */
+    public synchronized PriceQuantileSketch copy() {
+        final PriceQuantileSketch copy = new PriceQuantileSketch();
+        copy.buckets.putAll(buckets);
+        copy.zeroCount = zeroCount;
+        copy.count = count;
+        return copy;
+    }
+
+    /**
+     * 다른 스케치의 구간별 개수를 더합니다.
+     *
+     * @param other 합칠 스케치
+     */
+    public void merge(PriceQuantileSketch other) {
+        final TreeMap<Integer, Long> otherBuckets;
+        final long otherZeroCount;
+        synchronized (other) {
+            otherBuckets = new TreeMap<>(other.buckets);
+            otherZeroCount = other.zeroCount;
+        }
+
+        synchronized (this) {
+            otherBuckets.forEach((index, quantity) -> buckets.merge(index, quantity, Long::sum));
+            zeroCount += otherZeroCount;
+            count += otherZeroCount + otherBuckets.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 여러 분위수를 같은 시점의 상태로 계산합니다.
+     *
+     * @param quantiles 0 이상 1 이하의 분위수
+     * @return 분위수별 근사 가격, 비어 있으면 null
+     */
+    public synchronized Long[] quantiles(double... quantiles) {
+        final Long[] result = new Long[quantiles.length];
+        if (count == 0) {
+            return result;
+        }
+
+        for (int i = 0; i < quantiles.length; i++) {
+            result[i] = quantile(quantiles[i]);
+        }
+        return result;
+    }
+
+    private long quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("분위수는 0 이상 1 이하여야 합니다.");
+        }
+
+        final long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (rank < seen) {
+                return valueOf(bucket.getKey());
+            }
+        }
+        return valueOf(buckets.lastKey());
+    }
+
+    private static int indexOf(long price) {
+        return (int) Math.ceil(Math.log(price) / LOG_GAMMA);
+    }
+
+    /**
+     * 구간 (gamma^(i-1), gamma^i] 의 모든 값에 대해 상대 오차가 α 이하인 대표값입니다.
+     */
+    private static long valueOf(int index) {
+        return Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+}
@@ -0,0 +1,100 @@
+package dev.hodory.musinsa.product.domain.stream;
+
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.product.domain.dto.LowestPriceChangeDTO;
+import dev.hodory.musinsa.product.domain.dto.LowestProductPerCategoryDTO;
+import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 특정 시점의 카테고리별 최저가와 최저가 브랜드입니다. 이전 상태와 비교하여 변경분을 만듭니다.
+ */
+public class LowestPriceState {
+
+    private final Map<String, LowestPriceProductDTO> categories;
+    private final BrandProductDTO lowestBrand;
+
+    private LowestPriceState(Map<String, LowestPriceProductDTO> categories,
+        BrandProductDTO lowestBrand) {
+        this.categories = categories;
+        this.lowestBrand = lowestBrand;
+    }
+
+    /**
+     * @param lowestPrices 카테고리별 최저가
+     * @param lowestBrand  최저가 브랜드, 모든 카테고리 상품을 가진 브랜드가 없으면 null
+     * @return 최저가 상태
+     */
+    public static LowestPriceState of(List<LowestPriceProductDTO> lowestPrices,
+        BrandProductDTO lowestBrand) {
+        final Map<String, LowestPriceProductDTO> categories = new LinkedHashMap<>();
+        for (LowestPriceProductDTO lowestPrice : lowestPrices) {
+            categories.put(lowestPrice.getCategory(), lowestPrice);
+        }
+        return new LowestPriceState(Collections.unmodifiableMap(categories), lowestBrand);
+    }
+
+    /**
+     * 전체 상태를 변경분 형식으로 반환합니다. 구독을 시작할 때 전송합니다.
+     *
+     * @return 전체 상태
+     */
+    public LowestPriceChangeDTO toSnapshot() {
+        return LowestPriceChangeDTO.builder()
+            .categories(categories.values().stream().map(LowestProductPerCategoryDTO::of).toList())
+            .removedCategories(List.of())
+            .lowestBrand(lowestBrand)
+            .build();
+    }
+
+    /**
+     * 이전 상태와 달라진 카테고리 최저가와 최저가 브랜드를 반환합니다.
+     *
+     * @param previous 이전 상태
+     * @return 변경분, 변경이 없으면 빈 값
+     */
+    public Optional<LowestPriceChangeDTO> changesSince(LowestPriceState previous) {
+        final List<LowestProductPerCategoryDTO> changed = new ArrayList<>();
+        categories.forEach((category, lowestPrice) -> {
+            if (!isSame(lowestPrice, previous.categories.get(category))) {
+                changed.add(LowestProductPerCategoryDTO.of(lowestPrice));
+            }
+        });
+
+        final List<String> removed = previous.categories.keySet().stream()
+            .filter(category -> !categories.containsKey(category))
+            .toList();
+
+        final boolean brandChanged = !isSame(lowestBrand, previous.lowestBrand);
+
+        if (changed.isEmpty() && removed.isEmpty() && !brandChanged) {
+            return Optional.empty();
+        }
+
+        return Optional.of(LowestPriceChangeDTO.builder()
+            .categories(changed)
+            .removedCategories(removed)
+            .lowestBrand(brandChanged ? lowestBrand : null)
+            .build());
+    }
+
+    private static boolean isSame(LowestPriceProductDTO left, LowestPriceProductDTO right) {
+        return right != null
+            && Objects.equals(left.getBrand(), right.getBrand())
+            && Objects.equals(left.getPrice(), right.getPrice());
+    }
+
+    private static boolean isSame(BrandProductDTO left, BrandProductDTO right) {
+        if (left == null || right == null) {
+            return left == right;
+        }
+        return Objects.equals(left.getBrandName(), right.getBrandName())
+            && Objects.equals(left.getTotalPrice(), right.getTotalPrice());
+    }
+}
@@ -0,0 +1,132 @@
+package dev.hodory.musinsa.product.domain.stream;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 구독자 한 명에게 보낼 이벤트를 순서대로 전송합니다.
+ *
+ * <p>전송은 발행 스레드가 아닌 전송 스레드에서 실행되므로 느린 구독자가 다른 구독자의 전송을 지연시키지 않습니다.
+ * 보내지 못한 이벤트가 {@code maxPending}개를 넘거나 한 번의 전송이 제한 시간을 넘으면 느린 구독자로 보고 연결을 닫습니다.
+ */
+public class StreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final Executor sender;
+    private final Queue<Event> pending;
+    private final Consumer<StreamSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long sendingSince;
+
+    public StreamSubscriber(SseEmitter emitter, Executor sender, int maxPending,
+        Consumer<StreamSubscriber> onClose) {
+        this.emitter = emitter;
+        this.sender = sender;
+        this.pending = new ArrayBlockingQueue<>(maxPending);
+        this.onClose = onClose;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * 이름이 있는 이벤트 전송을 예약합니다.
+     *
+     * @param name    이벤트 이름
+     * @param payload JSON 문자열
+     */
+    public void send(String name, String payload) {
+        enqueue(new Event(name, payload));
+    }
+
+    /**
+     * 클라이언트가 무시하는 주석 줄 전송을 예약합니다. 끊어진 연결은 전송이 실패하여 정리됩니다.
+     */
+    public void heartbeat() {
+        enqueue(Event.HEARTBEAT);
+    }
+
+    /**
+     * @param now     {@link System#nanoTime()}
+     * @param timeout 한 번의 전송 제한 시간(ns)
+     * @return 진행 중인 전송이 제한 시간을 넘었는지 여부
+     */
+    public boolean isStalled(long now, long timeout) {
+        final long since = sendingSince;
+        return since != 0 && now - since > timeout;
+    }
+
+    public void close(Throwable cause) {
+        if (closed.compareAndSet(false, true)) {
+            pending.clear();
+            onClose.accept(this);
+            emitter.completeWithError(cause);
+        }
+    }
+
+    private void enqueue(Event event) {
+        if (closed.get()) {
+            return;
+        }
+        if (!pending.offer(event)) {
+            close(new IllegalStateException("전송을 기다리는 이벤트가 너무 많은 구독자입니다."));
+            return;
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close(e);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Event event;
+            while (!closed.get() && (event = pending.poll()) != null) {
+                sendingSince = System.nanoTime();
+                emitter.send(event.toBuilder());
+                sendingSince = 0;
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(e);
+        } finally {
+            sendingSince = 0;
+            draining.set(false);
+        }
+        // 전송을 마치는 사이에 들어온 이벤트를 놓치지 않습니다.
+        if (!closed.get() && !pending.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * {@link SseEmitter.SseEventBuilder}는 전송할 때 내용이 바뀌므로 구독자마다 새로 만듭니다.
+     */
+    private record Event(String name, String payload) {
+
+        private static final Event HEARTBEAT = new Event(null, null);
+
+        private SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON);
+        }
+    }
+}
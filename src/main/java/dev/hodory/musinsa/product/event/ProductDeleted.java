@@ -0,0 +1,9 @@
+package dev.hodory.musinsa.product.event;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.event.DomainEvent;
+
+public record ProductDeleted(Long productId, Long brandId, CategoryInfo category, long price)
+    implements DomainEvent {
+
+}
@@ -0,0 +1,14 @@
+package dev.hodory.musinsa.product.event;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.event.DomainEvent;
+
+/**
+ * 브랜드나 카테고리가 바뀐 경우입니다. 가격이 함께 바뀌었을 수 있습니다.
+ */
+public record ProductMoved(Long productId,
+                           Long oldBrandId, CategoryInfo oldCategory, long oldPrice,
+                           Long newBrandId, CategoryInfo newCategory, long newPrice)
+    implements DomainEvent {
+
+}
@@ -0,0 +1,12 @@
+package dev.hodory.musinsa.product.event;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.event.DomainEvent;
+
+/**
+ * 브랜드, 카테고리는 그대로이고 가격만 바뀐 경우입니다.
+ */
+public record ProductPriceChanged(Long productId, Long brandId, CategoryInfo category,
+                                  long oldPrice, long newPrice) implements DomainEvent {
+
+}
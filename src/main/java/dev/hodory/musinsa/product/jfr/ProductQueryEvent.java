@@ -0,0 +1,57 @@
+package dev.hodory.musinsa.product.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 상품 집계 쿼리 실행 시 발행되는 JFR 이벤트입니다. 실행 시간은 이벤트의 duration으로 기록됩니다.
+ * <p>
+ * 기본적으로 비활성화되어 있으며, jfr/musinsa.jfc 설정으로 기록을 활성화할 수 있습니다.
+ */
+@Name("dev.hodory.musinsa.ProductQuery")
+@Label("Product Query")
+@Description("상품 집계 쿼리 실행")
+@Category({"Musinsa", "Product"})
+@Enabled(false)
+@StackTrace(false)
+public class ProductQueryEvent extends Event {
+
+    @Label("Query Name")
+    private String queryName;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    /**
+     * 이벤트의 시작 시점을 기록합니다.
+     *
+     * @param queryName 쿼리 이름
+     * @return 시작된 이벤트
+     */
+    public static ProductQueryEvent start(String queryName) {
+        final ProductQueryEvent event = new ProductQueryEvent();
+        event.queryName = queryName;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 이벤트가 기록 대상일 경우에만 조회된 행의 수를 채워 커밋합니다.
+     *
+     * @param rowCount 조회된 행의 수
+     */
+    public void finish(int rowCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.rowCount = rowCount;
+        commit();
+    }
+}
@@ -0,0 +1,70 @@
+package dev.hodory.musinsa.product.jfr;
+
+import dev.hodory.musinsa.product.domain.entity.Product;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 상품 등록/수정/삭제 시 발행되는 JFR 이벤트입니다.
+ * <p>
+ * 기본적으로 비활성화되어 있으며, jfr/musinsa.jfc 설정으로 기록을 활성화할 수 있습니다.
+ */
+@Name("dev.hodory.musinsa.ProductWrite")
+@Label("Product Write")
+@Description("상품 등록/수정/삭제")
+@Category({"Musinsa", "Product"})
+@Enabled(false)
+@StackTrace(false)
+public class ProductWriteEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Product Id")
+    private long productId;
+
+    @Label("Category Id")
+    private long categoryId;
+
+    @Label("Brand Id")
+    private long brandId;
+
+    /**
+     * 이벤트의 시작 시점을 기록합니다.
+     *
+     * @param operation 작업 종류 (ADD, UPDATE, DELETE)
+     * @return 시작된 이벤트
+     */
+    public static ProductWriteEvent start(String operation) {
+        final ProductWriteEvent event = new ProductWriteEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 이벤트가 기록 대상일 경우에만 상품 정보를 채워 커밋합니다.
+     *
+     * @param product 대상 상품
+     */
+    public void finish(Product product) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.productId = idOf(product.getId());
+        this.categoryId = product.getCategory() == null ? 0L : idOf(product.getCategory().getId());
+        this.brandId = product.getBrand() == null ? 0L : idOf(product.getBrand().getId());
+        commit();
+    }
+
+    private static long idOf(Long id) {
+        return id == null ? 0L : id;
+    }
+}
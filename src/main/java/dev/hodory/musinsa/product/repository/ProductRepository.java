@@ -2,8 +2,21 @@ package dev.hodory.musinsa.product.repository;
 
 import dev.hodory.musinsa.product.domain.entity.Product;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    /**
+     * 상품을 브랜드, 카테고리와 함께 조회합니다.
+     * 상품 응답({@link dev.hodory.musinsa.product.domain.dto.ProductDTO.Response})을 만들 때 추가 쿼리가 발생하지 않도록 합니다.
+     * @param id 상품 ID
+     * @return 상품
+     */
+    @Override
+    @EntityGraph(attributePaths = {"brand", "category"})
+    Optional<Product> findById(Long id);
+
     List<Product> findAllByBrandId(Long brandId);
 }
@@ -1,7 +1,13 @@
 package dev.hodory.musinsa.product.repository;
 
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.dto.ProductCursor;
+import dev.hodory.musinsa.product.domain.entity.Product;
 import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
 import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepositoryCustom {
@@ -18,6 +24,28 @@ public interface ProductRepositoryCustom {
      */
     List<ProductInfo> findLowestPriceGroupByBrandIdAndCategoryId();
 
+    /**
+     * 브랜드와 카테고리별 최소, 최대 가격을 한 번의 집계로 조회합니다.
+     * @return 카테고리 ID, 브랜드 ID 순서의 최소, 최대 가격 리스트
+     */
+    List<ProductPriceRange> findPriceRangeGroupByBrandIdAndCategoryId();
+
+    /**
+     * 지정한 브랜드와 카테고리의 브랜드, 카테고리별 최소, 최대 가격을 조회합니다.
+     * @param brandIds 브랜드 ID 리스트
+     * @param categoryCodes 카테고리 리스트
+     * @return 정렬되지 않은 최소, 최대 가격 리스트
+     */
+    List<ProductPriceRange> findPriceRangeByBrandIdInAndCategoryCodeIn(
+        Collection<Long> brandIds, Collection<CategoryInfo> categoryCodes);
+
+    /**
+     * 특정 카테고리의 모든 상품을 브랜드, 카테고리 정보와 함께 조회합니다.
+     * @param categoryCode 카테고리
+     * @return 상품 리스트
+     */
+    List<ProductInfo> findAllByCategoryCode(CategoryInfo categoryCode);
+
     /**
      * 특정 카테고리의 최소 가격을 조회합니다.
      * @param categoryId 카테고리 ID
@@ -31,4 +59,54 @@ public interface ProductRepositoryCustom {
      * @return 카테고리별 최고 가격 리스트
      */
     List<ProductInfo> findHighestPriceByCategoryId(Long categoryId);
+
+    /**
+     * 특정 카테고리에서 가격이 낮은 상품을 limit 개 만큼 조회합니다.
+     * (category_id, price, id) 인덱스를 앞에서부터 limit 개만 읽으므로 카테고리 전체를 정렬하지 않습니다.
+     * @param categoryId 카테고리 ID
+     * @param limit 조회할 최대 개수
+     * @return 가격, ID 오름차순 상품 리스트
+     */
+    List<LowestPriceProductDTO> findCheapestByCategoryId(Long categoryId, int limit);
+
+    /**
+     * 브랜드, 카테고리, 가격별 상품 수를 조회합니다.
+     * @return 브랜드, 카테고리, 가격별 상품 수 리스트
+     */
+    List<ProductPriceCount> findPriceCounts();
+
+    /**
+     * 상품 ID 목록의 브랜드, 카테고리, 가격별 상품 수를 조회합니다.
+     * @param ids 상품 ID 리스트
+     * @return 브랜드, 카테고리, 가격별 상품 수 리스트
+     */
+    List<ProductPriceCount> findPriceCountsByIdIn(List<Long> ids);
+
+    /**
+     * 특정 브랜드의 상품 중 afterId 다음 상품 ID를 오름차순으로 limit 개 만큼 조회합니다.
+     * (brand_id, id) 인덱스에서 afterId 다음부터 읽으므로, 앞에서 삭제한 상품을 다시 건너뛰지 않습니다.
+     * @param brandId 브랜드 ID
+     * @param afterId 이전에 조회한 마지막 상품 ID. 처음 조회하면 0
+     * @param limit 조회할 최대 개수
+     * @return 상품 ID 리스트
+     */
+    List<Long> findIdsByBrandId(Long brandId, Long afterId, int limit);
+
+    /**
+     * 상품을 일괄 삭제합니다. 영속성 컨텍스트를 거치지 않고 DELETE 쿼리를 실행합니다.
+     * @param ids 상품 ID 리스트
+     * @return 삭제된 상품 수
+     */
+    long deleteAllByIdIn(List<Long> ids);
+
+    /**
+     * 상품을 (가격, ID) 순서로 커서 이후부터 limit 개 만큼 조회합니다.
+     * OFFSET 대신 (category_id, price, id), (brand_id, price, id) 인덱스를 탐색하므로 페이지 위치와 무관하게 비용이 일정합니다.
+     * @param categoryId 카테고리 ID (null 이면 조건 없음)
+     * @param brandId 브랜드 ID (null 이면 조건 없음)
+     * @param after 마지막으로 조회한 상품의 위치 (null 이면 처음부터)
+     * @param limit 조회할 최대 개수
+     * @return 브랜드, 카테고리가 함께 로딩된 상품 리스트
+     */
+    List<Product> findPage(Long categoryId, Long brandId, ProductCursor after, int limit);
 }
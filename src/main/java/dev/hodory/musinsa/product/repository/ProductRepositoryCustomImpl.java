@@ -4,14 +4,24 @@ import static dev.hodory.musinsa.brand.domain.entity.QBrand.brand;
 import static dev.hodory.musinsa.category.domain.entity.QCategory.category;
 import static dev.hodory.musinsa.product.domain.entity.QProduct.product;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.dto.ProductCursor;
+import dev.hodory.musinsa.product.domain.entity.Product;
 import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
 import dev.hodory.musinsa.product.domain.entity.QProduct;
 import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import dev.hodory.musinsa.product.domain.projection.QProductPriceCount;
+import dev.hodory.musinsa.product.domain.projection.QProductPriceRange;
 import dev.hodory.musinsa.product.domain.projection.QLowestPriceProductDTO;
 import dev.hodory.musinsa.product.domain.projection.QProductInfo;
+import dev.hodory.musinsa.product.jfr.ProductQueryEvent;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -24,10 +34,11 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
     @Override
     public List<LowestPriceProductDTO> findLowestPricePerCategory() {
+        final ProductQueryEvent event = ProductQueryEvent.start("findLowestPricePerCategory");
 
         QProduct subProduct = new QProduct("subProduct");
 
-        return queryFactory
+        final List<LowestPriceProductDTO> result = queryFactory
             .select(new QLowestPriceProductDTO(
                 category.title,
                 brand.name,
@@ -51,11 +62,17 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
             ))
             .orderBy(category.id.asc())
             .fetch();
+
+        event.finish(result.size());
+        return result;
     }
 
     @Override
     public List<ProductInfo> findLowestPriceGroupByBrandIdAndCategoryId() {
-        return queryFactory
+        final ProductQueryEvent event = ProductQueryEvent.start(
+            "findLowestPriceGroupByBrandIdAndCategoryId");
+
+        final List<ProductInfo> result = queryFactory
             .select(new QProductInfo(
                 product.brand.id,
                 product.brand.name,
@@ -69,11 +86,112 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 category.id.asc()
             )
             .fetch();
+
+        event.finish(result.size());
+        return result;
+    }
+
+    @Override
+    public List<ProductPriceRange> findPriceRangeGroupByBrandIdAndCategoryId() {
+        final ProductQueryEvent event = ProductQueryEvent.start(
+            "findPriceRangeGroupByBrandIdAndCategoryId");
+
+        final List<ProductPriceRange> result = queryFactory
+            .select(new QProductPriceRange(
+                product.brand.id,
+                product.brand.name,
+                product.category.id,
+                product.category.title,
+                product.price.min(),
+                product.price.max(),
+                lowestProductIdOfGroup()))
+            .from(product)
+            .groupBy(product.brand.id, product.category.id)
+            .orderBy(
+                product.category.id.asc(),
+                product.brand.id.asc()
+            )
+            .fetch();
+
+        event.finish(result.size());
+        return result;
+    }
+
+    @Override
+    public List<ProductPriceRange> findPriceRangeByBrandIdInAndCategoryCodeIn(
+        Collection<Long> brandIds, Collection<CategoryInfo> categoryCodes) {
+        final ProductQueryEvent event = ProductQueryEvent.start(
+            "findPriceRangeByBrandIdInAndCategoryCodeIn");
+
+        final List<ProductPriceRange> result = queryFactory
+            .select(new QProductPriceRange(
+                product.brand.id,
+                product.brand.name,
+                product.category.id,
+                product.category.title,
+                product.price.min(),
+                product.price.max(),
+                lowestProductIdOfGroup()))
+            .from(product)
+            .where(
+                product.brand.id.in(brandIds),
+                product.category.code.in(categoryCodes)
+            )
+            .groupBy(product.brand.id, product.category.id)
+            .fetch();
+
+        event.finish(result.size());
+        return result;
+    }
+
+    /**
+     * 브랜드, 카테고리로 묶은 조회에서 그룹의 최저가 상품 중 가장 큰 상품 ID입니다. {@link #findLowestPricePerCategory()}가
+     * 같은 가격의 상품 중 가장 큰 상품 ID를 고르므로, 그룹별 집계로 최저가를 정할 때도 같은 상품을 고르기 위해 사용합니다.
+     */
+    private static JPQLQuery<Long> lowestProductIdOfGroup() {
+        final QProduct sameGroup = new QProduct("sameGroup");
+        final QProduct cheapest = new QProduct("cheapest");
+        return JPAExpressions
+            .select(sameGroup.id.max())
+            .from(sameGroup)
+            .where(
+                sameGroup.brand.id.eq(product.brand.id),
+                sameGroup.category.id.eq(product.category.id),
+                sameGroup.price.eq(JPAExpressions
+                    .select(cheapest.price.min())
+                    .from(cheapest)
+                    .where(
+                        cheapest.brand.id.eq(product.brand.id),
+                        cheapest.category.id.eq(product.category.id)
+                    ))
+            );
+    }
+
+    @Override
+    public List<ProductInfo> findAllByCategoryCode(CategoryInfo categoryCode) {
+        final ProductQueryEvent event = ProductQueryEvent.start("findAllByCategoryCode");
+
+        final List<ProductInfo> result = queryFactory
+            .select(new QProductInfo(
+                product.id,
+                product.brand.id,
+                product.brand.name,
+                product.category.id,
+                product.category.title,
+                product.price))
+            .from(product)
+            .where(product.category.code.eq(categoryCode))
+            .fetch();
+
+        event.finish(result.size());
+        return result;
     }
 
     @Override
     public List<ProductInfo> findLowestPriceByCategoryId(Long categoryId) {
-        return queryFactory
+        final ProductQueryEvent event = ProductQueryEvent.start("findLowestPriceByCategoryId");
+
+        final List<ProductInfo> result = queryFactory
             .select(new QProductInfo(
                 product.brand.id,
                 product.brand.name,
@@ -89,11 +207,16 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                     .where(product.category.id.eq(categoryId))
             ))
             .fetch();
+
+        event.finish(result.size());
+        return result;
     }
 
     @Override
     public List<ProductInfo> findHighestPriceByCategoryId(Long categoryId) {
-        return queryFactory
+        final ProductQueryEvent event = ProductQueryEvent.start("findHighestPriceByCategoryId");
+
+        final List<ProductInfo> result = queryFactory
             .select(new QProductInfo(
                 product.brand.id,
                 product.brand.name,
@@ -109,5 +232,116 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                     .where(product.category.id.eq(categoryId))
             ))
             .fetch();
+
+        event.finish(result.size());
+        return result;
+    }
+
+    @Override
+    public List<LowestPriceProductDTO> findCheapestByCategoryId(Long categoryId, int limit) {
+        final ProductQueryEvent event = ProductQueryEvent.start("findCheapestByCategoryId");
+
+        final List<LowestPriceProductDTO> result = queryFactory
+            .select(new QLowestPriceProductDTO(
+                category.title,
+                brand.name,
+                product.price
+            ))
+            .from(product)
+            .join(product.brand, brand)
+            .join(product.category, category)
+            .where(product.category.id.eq(categoryId))
+            .orderBy(product.price.asc(), product.id.asc())
+            .limit(limit)
+            .fetch();
+
+        event.finish(result.size());
+        return result;
+    }
+
+    @Override
+    public List<ProductPriceCount> findPriceCounts() {
+        final ProductQueryEvent event = ProductQueryEvent.start("findPriceCounts");
+
+        final List<ProductPriceCount> result = selectPriceCounts(null);
+
+        event.finish(result.size());
+        return result;
+    }
+
+    @Override
+    public List<ProductPriceCount> findPriceCountsByIdIn(List<Long> ids) {
+        return selectPriceCounts(product.id.in(ids));
+    }
+
+    private List<ProductPriceCount> selectPriceCounts(BooleanExpression condition) {
+        return queryFactory
+            .select(new QProductPriceCount(
+                product.brand.id,
+                category.code,
+                product.price,
+                product.count()))
+            .from(product)
+            .join(product.category, category)
+            .where(condition)
+            .groupBy(product.brand.id, category.code, product.price)
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findIdsByBrandId(Long brandId, Long afterId, int limit) {
+        return queryFactory
+            .select(product.id)
+            .from(product)
+            .where(product.brand.id.eq(brandId), product.id.gt(afterId))
+            .orderBy(product.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public long deleteAllByIdIn(List<Long> ids) {
+        return queryFactory
+            .delete(product)
+            .where(product.id.in(ids))
+            .execute();
+    }
+
+    @Override
+    public List<Product> findPage(Long categoryId, Long brandId, ProductCursor after, int limit) {
+        final ProductQueryEvent event = ProductQueryEvent.start("findPage");
+
+        final List<Product> result = queryFactory
+            .selectFrom(product)
+            .join(product.brand, brand).fetchJoin()
+            .join(product.category, category).fetchJoin()
+            .where(
+                categoryIdEq(categoryId),
+                brandIdEq(brandId),
+                afterCursor(after)
+            )
+            .orderBy(product.price.asc(), product.id.asc())
+            .limit(limit)
+            .fetch();
+
+        event.finish(result.size());
+        return result;
+    }
+
+    private BooleanExpression categoryIdEq(Long categoryId) {
+        return categoryId == null ? null : product.category.id.eq(categoryId);
+    }
+
+    private BooleanExpression brandIdEq(Long brandId) {
+        return brandId == null ? null : product.brand.id.eq(brandId);
+    }
+
+    private BooleanExpression afterCursor(ProductCursor after) {
+        if (after == null) {
+            return null;
+        }
+        // (price, id) > (?, ?) 와 같지만, 선행 조건 price >= ? 로 (price, id) 인덱스의 범위 탐색을 사용할 수 있습니다.
+        return product.price.goe(after.getPrice())
+            .and(product.price.gt(after.getPrice()).or(product.id.gt(after.getId())));
     }
 }
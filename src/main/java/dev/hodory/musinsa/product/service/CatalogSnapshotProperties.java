@@ -0,0 +1,34 @@
+package dev.hodory.musinsa.product.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.catalog-snapshot")
+public class CatalogSnapshotProperties {
+
+    /**
+     * 최저가, 최저가 브랜드, 카테고리 최저/최고가 조회를 카탈로그 스냅샷에서 응답할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 요청한 최소 버전에 스냅샷이 도달하기를 기다리는 최대 시간. 지나면 DB를 직접 조회합니다.
+     * 변경이 이어지는 동안 스냅샷은 {@code maxDelay}마다 교체되므로 그보다 길어야 대부분 스냅샷에서 응답하며, 대신 그만큼
+     * 요청 스레드를 점유할 수 있습니다.
+     */
+    private Duration minVersionWait = Duration.ofMillis(1500);
+
+    /**
+     * 마지막 변경 후 이 시간 동안 변경이 없으면 변경된 셀을 다시 집계합니다.
+     */
+    private Duration quietPeriod = Duration.ofMillis(100);
+
+    /**
+     * 변경이 계속되더라도 처음 변경된 뒤 이 시간이 지나면 다시 집계합니다.
+     */
+    private Duration maxDelay = Duration.ofSeconds(1);
+}
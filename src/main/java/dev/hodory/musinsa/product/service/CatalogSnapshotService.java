@@ -0,0 +1,257 @@
+package dev.hodory.musinsa.product.service;
+
+import dev.hodory.musinsa.brand.event.BrandDeleted;
+import dev.hodory.musinsa.brand.event.BrandProductsDeleted;
+import dev.hodory.musinsa.brand.event.BrandRenamed;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.concurrent.DebouncedRecompute;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.common.event.DomainEventListener;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.event.ProductDeleted;
+import dev.hodory.musinsa.product.event.ProductMoved;
+import dev.hodory.musinsa.product.event.ProductPriceChanged;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 최신 {@link CatalogSnapshot}을 보관합니다.
+ *
+ * <p>상품, 브랜드 변경이 outbox 릴레이로 전달되면 변경된 (브랜드, 카테고리) 셀을 표시해 두고, 변경이
+ * {@code quiet-period} 동안 멈추거나 {@code max-delay}가 지나면 표시된 셀만 다시 집계하여 새 스냅샷으로 참조를 한 번에
+ * 교체합니다. 대량 가격 수정 중에도 셀마다 한 번만 다시 집계하며, 기다리는 셀 수는
+ * {@value #DIRTY_CELLS_METRIC} 지표로 확인할 수 있습니다.
+ * 조회는 현재 참조를 읽기만 하므로 잠금이나 DB 커넥션 없이 끝나며, 한 응답은 항상 하나의 스냅샷에서 계산됩니다.
+ *
+ * <p>최소 버전을 요청한 조회는 스냅샷이 교체될 때마다 완료되는 future를 기다리며, 기다리는 동안 스레드를 점유하지만
+ * 잠금을 잡지 않습니다.
+ */
+@Slf4j
+@Service
+public class CatalogSnapshotService implements DomainEventListener, DisposableBean {
+
+    public static final String DIRTY_CELLS_METRIC = "musinsa.catalog.snapshot.dirty-cells";
+
+    private static final Comparator<ProductPriceRange> CATEGORY_THEN_BRAND = Comparator
+        .comparing(ProductPriceRange::getCategoryId)
+        .thenComparing(ProductPriceRange::getBrandId);
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final boolean enabled;
+    private final Duration minVersionWait;
+    private final DebouncedRecompute<Cell> recompute;
+    private final Map<Cell, ProductPriceRange> ranges = new HashMap<>();
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CatalogSnapshot>> nextSnapshot =
+        new AtomicReference<>(new CompletableFuture<>());
+
+    public CatalogSnapshotService(ProductRepository productRepository,
+        TransactionTemplate transactionTemplate,
+        CatalogSnapshotProperties properties, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.snapshotTransaction = new TransactionTemplate(
+            transactionTemplate.getTransactionManager());
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.enabled = properties.isEnabled();
+        this.minVersionWait = properties.getMinVersionWait();
+        this.recompute = new DebouncedRecompute<>("catalog-snapshot-recompute",
+            properties.getQuietPeriod(), properties.getMaxDelay(), this::recompute);
+        Gauge.builder(DIRTY_CELLS_METRIC, recompute, DebouncedRecompute::backlog)
+            .description("다시 집계를 기다리는 (브랜드, 카테고리) 셀 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 릴레이의 스냅샷 트랜잭션 안에서 호출되므로, 릴레이가 같은 스냅샷에서 정한 outbox 위치를 스냅샷의 버전으로 사용합니다.
+     */
+    @Override
+    public void load(long version) {
+        if (!enabled) {
+            return;
+        }
+        final List<ProductPriceRange> loaded = new ArrayList<>();
+        final CatalogSnapshot snapshot = snapshotTransaction.execute(status -> {
+            loaded.addAll(productRepository.findPriceRangeGroupByBrandIdAndCategoryId());
+            return CatalogSnapshot.of(version, loaded);
+        });
+        synchronized (ranges) {
+            ranges.clear();
+            loaded.forEach(range -> ranges.put(Cell.of(range), range));
+            replace(snapshot);
+        }
+        log.info("카탈로그 스냅샷을 만들었습니다. version={}", snapshot.getVersion());
+    }
+
+    /**
+     * outbox id를 알 수 없으면 현재 버전을 유지합니다.
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        current().ifPresent(snapshot -> onEvents(events, snapshot.getVersion()));
+    }
+
+    /**
+     * 이벤트가 바꾼 셀을 표시합니다. 다시 집계한 스냅샷의 버전은 표시된 이벤트 중 가장 큰 버전이며, 집계는 그 이후의 변경을
+     * 포함할 수 있으므로 실제보다 작거나 같습니다.
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events, long version) {
+        if (!enabled || events.isEmpty()) {
+            return;
+        }
+        recompute.mark(affectedCells(events), version);
+    }
+
+    private Set<Cell> affectedCells(List<DomainEvent> events) {
+        final Set<Cell> cells = new HashSet<>();
+        for (DomainEvent event : events) {
+            if (event instanceof ProductCreated created) {
+                cells.add(new Cell(created.brandId(), created.category()));
+            } else if (event instanceof ProductPriceChanged changed) {
+                cells.add(new Cell(changed.brandId(), changed.category()));
+            } else if (event instanceof ProductMoved moved) {
+                cells.add(new Cell(moved.oldBrandId(), moved.oldCategory()));
+                cells.add(new Cell(moved.newBrandId(), moved.newCategory()));
+            } else if (event instanceof ProductDeleted deleted) {
+                cells.add(new Cell(deleted.brandId(), deleted.category()));
+            } else if (event instanceof BrandProductsDeleted deleted) {
+                deleted.removedProducts().forEach(
+                    removed -> cells.add(new Cell(deleted.brandId(), removed.getCategory())));
+            } else if (event instanceof BrandRenamed renamed) {
+                cells.addAll(Cell.allOf(renamed.brandId()));
+            } else if (event instanceof BrandDeleted deleted) {
+                cells.addAll(Cell.allOf(deleted.brandId()));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 표시된 셀만 다시 집계하고 나머지 셀은 이전 집계를 그대로 사용하여 새 스냅샷을 만듭니다.
+     */
+    private void recompute(Set<Cell> cells, long version) {
+        final Set<Long> brandIds = new HashSet<>();
+        final Set<CategoryInfo> categories = EnumSet.noneOf(CategoryInfo.class);
+        cells.forEach(cell -> {
+            brandIds.add(cell.brandId());
+            categories.add(cell.category());
+        });
+
+        final CatalogSnapshot before = current.get();
+        if (before == null) {
+            // 아직 전체 집계를 만들지 않았으면 load()가 모든 셀을 집계합니다.
+            return;
+        }
+        // 조회와 load()가 DB 왕복을 기다리지 않도록 잠금 밖에서 집계하고, 교체만 잠금 안에서 합니다.
+        // 읽는 저장소가 이 버전까지의 변경을 반영하고 있어야 합니다.
+        final List<ProductPriceRange> recomputed = CatalogVersionRequirement.callAtLeast(version,
+            () -> snapshotTransaction.execute(status ->
+                productRepository.findPriceRangeByBrandIdInAndCategoryCodeIn(brandIds, categories)));
+
+        synchronized (ranges) {
+            final CatalogSnapshot previous = current.get();
+            if (previous != before && previous.getVersion() >= version) {
+                // 집계하는 사이에 load()가 이 버전 이후의 DB로 모든 셀을 다시 집계했으므로 더 오래된 결과로 덮어쓰지 않습니다.
+                return;
+            }
+            ranges.keySet().removeAll(cells);
+            recomputed.stream()
+                .filter(range -> cells.contains(Cell.of(range)))
+                .forEach(range -> ranges.put(Cell.of(range), range));
+            replace(CatalogSnapshot.of(Math.max(previous.getVersion(), version),
+                ranges.values().stream().sorted(CATEGORY_THEN_BRAND).toList()));
+        }
+    }
+
+    private void replace(CatalogSnapshot snapshot) {
+        current.set(snapshot);
+        nextSnapshot.getAndSet(new CompletableFuture<>()).complete(snapshot);
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다.
+     *
+     * @return 비활성화되었거나 아직 만들지 않았으면 empty
+     */
+    public Optional<CatalogSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * 버전이 {@code minVersion} 이상인 스냅샷을 반환합니다. 현재 스냅샷이 더 오래되었으면 설정된 시간만큼 교체를 기다립니다.
+     *
+     * @param minVersion 클라이언트가 마지막으로 받은 변경 API의 카탈로그 버전
+     * @return 비활성화되었거나 기다리는 동안 버전에 도달하지 못하면 empty
+     */
+    public Optional<CatalogSnapshot> awaitVersion(long minVersion) {
+        final long deadline = System.nanoTime() + minVersionWait.toNanos();
+        while (true) {
+            // 교체 직후 깨어나지 못하는 일이 없도록 현재 스냅샷보다 future를 먼저 읽습니다.
+            final CompletableFuture<CatalogSnapshot> next = nextSnapshot.get();
+            final CatalogSnapshot snapshot = current.get();
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            if (snapshot.getVersion() >= minVersion) {
+                return Optional.of(snapshot);
+            }
+
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return Optional.empty();
+            }
+            try {
+                next.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                return Optional.empty();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        recompute.close();
+    }
+
+    private record Cell(Long brandId, CategoryInfo category) {
+
+        static Cell of(ProductPriceRange range) {
+            return new Cell(range.getBrandId(), CategoryInfo.findByTitle(range.getCategoryName()));
+        }
+
+        static List<Cell> allOf(Long brandId) {
+            return EnumSet.allOf(CategoryInfo.class).stream()
+                .map(category -> new Cell(brandId, category))
+                .toList();
+        }
+    }
+}
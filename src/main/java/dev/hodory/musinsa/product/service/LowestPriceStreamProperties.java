@@ -0,0 +1,44 @@
+package dev.hodory.musinsa.product.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.lowest-price-stream")
+public class LowestPriceStreamProperties {
+
+    /**
+     * SSE 연결 유지 시간. 만료되면 클라이언트(EventSource)가 다시 연결합니다.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * 끊어진 연결을 찾기 위해 주석 줄을 보내는 주기
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 한 번의 전송이 이 시간을 넘기면 느린 구독자로 보고 연결을 닫습니다.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 구독자마다 전송을 기다릴 수 있는 최대 이벤트 수. 넘으면 느린 구독자로 보고 연결을 닫습니다.
+     */
+    private int maxPending = 32;
+
+    /**
+     * 최대 구독자 수. SSE 연결도 Tomcat 연결을 점유하므로 server.tomcat.max-connections(25000)보다 작게 두어, 남은
+     * 연결(5000)로 일반 API 요청을 받습니다. 연결마다 파일 디스크립터를 하나씩 쓰므로 프로세스의 열린 파일 수 제한
+     * (ulimit -n)도 max-connections보다 커야 합니다.
+     */
+    private int maxSubscribers = 20000;
+
+    /**
+     * 구독자에게 이벤트를 전송하는 스레드 수
+     */
+    private int senderThreads = 4;
+}
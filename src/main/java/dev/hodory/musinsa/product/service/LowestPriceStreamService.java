@@ -0,0 +1,264 @@
+package dev.hodory.musinsa.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.common.event.DomainEventListener;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import dev.hodory.musinsa.product.domain.basket.BasketRanking;
+import dev.hodory.musinsa.product.domain.basket.BrandCoverage;
+import dev.hodory.musinsa.product.domain.dto.LowestPriceChangeDTO;
+import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot;
+import dev.hodory.musinsa.product.domain.stream.LowestPriceState;
+import dev.hodory.musinsa.product.domain.stream.StreamSubscriber;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 카테고리별 최저가와 최저가 브랜드가 바뀔 때 SSE 구독자에게 변경분을 전송합니다.
+ *
+ * <p>상품, 브랜드 변경이 커밋되면 도메인 이벤트를 받아 재계산을 예약하고, 짧은 시간에 여러 번 받아도 재계산은 한 번만 예약됩니다.
+ * 재계산은 전달받은 이벤트의 버전 이상인 {@link CatalogSnapshot}에서 상태를 만들고, 스냅샷을 사용할 수 없으면 그 버전 이상을
+ * 반영한 DB를 조회합니다. 뒤처진 복제 DB를 읽어 변경이 없다고 판단하고 변경을 놓치지 않도록 합니다.
+ * 변경분은 한 번만 JSON으로 직렬화하고, 구독자마다 전용 전송 스레드 풀에서 따로 전송하므로 느린 구독자가 다른 구독자를 지연시키지 않습니다.
+ * {@code heartbeat-interval}마다 주석 줄을 보내 끊어진 연결과 전송이 {@code send-timeout}을 넘긴 구독자를 정리합니다.
+ * {@link SseEmitter}는 비동기 서블릿 요청으로 처리되므로 대기 중인 연결은 요청 스레드를 점유하지 않지만 Tomcat 연결은
+ * 점유하므로, 구독자 수는 {@code max-subscribers}로 {@code server.tomcat.max-connections}보다 작게 제한합니다.
+ */
+@Slf4j
+@Service
+public class LowestPriceStreamService implements DomainEventListener, DisposableBean {
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String CHANGE_EVENT = "lowest-price-changed";
+
+    private static final long REJECTED_RECONNECT_MILLIS = 30_000L;
+
+    private final ProductRepository productRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskExecutor taskExecutor;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxPending;
+    private final int maxSubscribers;
+    private final ExecutorService sender;
+    private final List<StreamSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean recomputeScheduled = new AtomicBoolean();
+    private final AtomicLong requiredVersion = new AtomicLong();
+    // 재계산 중 DB를 조회하므로 가상 스레드에서 캐리어 스레드를 점유하지 않도록 synchronized 대신 사용합니다.
+    private final ReentrantLock recomputeLock = new ReentrantLock();
+    private volatile LowestPriceState current;
+
+    public LowestPriceStreamService(ProductRepository productRepository,
+        CatalogSnapshotService catalogSnapshotService, TransactionTemplate transactionTemplate,
+        @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+        ObjectMapper objectMapper, LowestPriceStreamProperties properties) {
+        this.productRepository = productRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.readOnlyTransaction = new TransactionTemplate(
+            transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        this.maxPending = properties.getMaxPending();
+        this.maxSubscribers = properties.getMaxSubscribers();
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(properties.getSenderThreads(), runnable -> {
+            final Thread thread = new Thread(runnable,
+                "lowest-price-stream-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void load(long version) {
+        requiredVersion.accumulateAndGet(version, Math::max);
+        current = computeState(version);
+    }
+
+    /**
+     * 최저가 스트림을 구독합니다. 구독 즉시 현재 상태를 전송합니다.
+     *
+     * 구독자 수가 {@code max-subscribers}에 도달했으면 다시 연결할 시간만 알려주고 연결을 닫습니다.
+     *
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return rejected();
+        }
+
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        final StreamSubscriber subscriber = new StreamSubscriber(emitter, sender, maxPending,
+            subscribers::remove);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        final LowestPriceState state = current;
+        if (state != null) {
+            subscriber.send(SNAPSHOT_EVENT, serialize(state.toSnapshot()));
+        }
+        return emitter;
+    }
+
+    private SseEmitter rejected() {
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        try {
+            emitter.send(SseEmitter.event()
+                .reconnectTime(REJECTED_RECONNECT_MILLIS)
+                .comment("구독자 수가 최대치에 도달했습니다."));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 모든 구독자에게 주석 줄을 보내고, 전송이 제한 시간을 넘긴 구독자의 연결을 닫습니다.
+     */
+    @Scheduled(fixedDelayString = "${musinsa.lowest-price-stream.heartbeat-interval:15s}")
+    public void heartbeat() {
+        final long now = System.nanoTime();
+        for (StreamSubscriber subscriber : subscribers) {
+            if (subscriber.isStalled(now, sendTimeoutNanos)) {
+                subscriber.close(new TimeoutException("최저가 스트림 전송 시간이 초과되었습니다."));
+            } else {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * 재계산이 이미 예약되어 있으면 새로 예약하지 않습니다.
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        if (!events.isEmpty()) {
+            notifyChanged();
+        }
+    }
+
+    /**
+     * 예약된 재계산이 이 버전 이상의 카탈로그에서 계산하도록 기록합니다.
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events, long version) {
+        if (!events.isEmpty()) {
+            requiredVersion.accumulateAndGet(version, Math::max);
+            notifyChanged();
+        }
+    }
+
+    private void notifyChanged() {
+        if (recomputeScheduled.compareAndSet(false, true)) {
+            taskExecutor.execute(this::recompute);
+        }
+    }
+
+    private void recompute() {
+        recomputeLock.lock();
+        // 재계산 중에 발생한 변경은 다음 재계산으로 예약되도록 먼저 해제합니다.
+        recomputeScheduled.set(false);
+
+        try {
+            final LowestPriceState next = computeState(requiredVersion.get());
+            final LowestPriceState previous = current;
+            current = next;
+
+            if (previous == null) {
+                return;
+            }
+
+            next.changesSince(previous).ifPresent(change -> {
+                final String payload = serialize(change);
+                for (StreamSubscriber subscriber : subscribers) {
+                    subscriber.send(CHANGE_EVENT, payload);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("최저가 변경분 계산에 실패했습니다.", e);
+        } finally {
+            recomputeLock.unlock();
+        }
+    }
+
+    /**
+     * 카탈로그 스냅샷이 {@code version}에 도달하면 스냅샷에서, 비활성화되었거나 기다리는 동안 도달하지 못하면
+     * {@code version} 이상을 반영한 DB에서 상태를 계산합니다.
+     */
+    private LowestPriceState computeState(long version) {
+        return catalogSnapshotService.awaitVersion(version)
+            .map(LowestPriceStreamService::stateOf)
+            .orElseGet(() -> CatalogVersionRequirement.callAtLeast(version,
+                () -> readOnlyTransaction.execute(status -> LowestPriceState.of(
+                    productRepository.findLowestPricePerCategory(),
+                    lowestBrand(BrandCoverage.of(
+                        productRepository.findLowestPriceGroupByBrandIdAndCategoryId()))))));
+    }
+
+    private static LowestPriceState stateOf(CatalogSnapshot snapshot) {
+        return LowestPriceState.of(snapshot.getLowestPerCategory().stream()
+                .map(product -> LowestPriceProductDTO.builder()
+                    .category(product.getCategoryName())
+                    .brand(product.getBrandName())
+                    .price(product.getPrice())
+                    .build())
+                .toList(),
+            lowestBrand(snapshot.getCoverages()));
+    }
+
+    private static BrandProductDTO lowestBrand(List<BrandCoverage> coverages) {
+        final int allCategories = CategoryInfo.maskOf(EnumSet.allOf(CategoryInfo.class));
+        return BasketRanking.top(coverages, allCategories, 1).stream()
+            .findFirst()
+            .map(coverage -> BrandProductDTO.of(coverage.products(allCategories)))
+            .orElse(null);
+    }
+
+    private String serialize(LowestPriceChangeDTO change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
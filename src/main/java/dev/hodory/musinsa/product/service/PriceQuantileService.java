@@ -0,0 +1,237 @@
+package dev.hodory.musinsa.product.service;
+
+import dev.hodory.musinsa.brand.domain.entity.Brand;
+import dev.hodory.musinsa.brand.event.BrandProductsDeleted;
+import dev.hodory.musinsa.brand.repository.BrandRepository;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.common.event.DomainEventListener;
+import dev.hodory.musinsa.product.domain.dto.PriceQuantileDTO;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import dev.hodory.musinsa.product.domain.stats.PriceQuantileSketch;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.event.ProductDeleted;
+import dev.hodory.musinsa.product.event.ProductMoved;
+import dev.hodory.musinsa.product.event.ProductPriceChanged;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카테고리별, 브랜드별 가격 분위수 스케치를 메모리에 유지합니다.
+ * outbox 릴레이가 시작할 때 한 번 집계하고, 이후에는 outbox의 도메인 이벤트로 증분 갱신합니다.
+ * 스케치에 반영된 outbox 위치를 함께 기록하여, 이미 반영된 이벤트나 더 오래된 집계로 스케치를 덮어쓰지 않습니다.
+ *
+ * <p>이벤트는 변경되는 카테고리, 브랜드 스케치의 사본에 반영한 뒤 위치와 함께 한 번에 교체합니다. 배치 도중 실패해도
+ * 스케치가 바뀌지 않으므로, 릴레이가 같은 배치를 다시 전달해도 앞의 이벤트를 두 번 반영하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceQuantileService implements DomainEventListener {
+
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+    private final Object lock = new Object();
+    private volatile Sketches sketches = new Sketches();
+    private long version = -1L;
+
+    /**
+     * 브랜드, 카테고리, 가격별 상품 수를 집계하여 스케치를 다시 만듭니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void load(long loadedVersion) {
+        final Sketches loaded = new Sketches();
+        final List<ProductPriceCount> priceCounts = productRepository.findPriceCounts();
+        for (ProductPriceCount priceCount : priceCounts) {
+            loaded.add(priceCount.getBrandId(), priceCount.getCategory(), priceCount.getPrice(),
+                priceCount.getCount());
+        }
+
+        synchronized (lock) {
+            if (loadedVersion <= version) {
+                log.info("더 최신 스케치가 있어 집계 결과를 버립니다. loaded={}, current={}", loadedVersion,
+                    version);
+                return;
+            }
+            this.sketches = loaded;
+            this.version = loadedVersion;
+        }
+        log.info("가격 분위수 스케치를 집계했습니다. rows={}, version={}", priceCounts.size(),
+            loadedVersion);
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        synchronized (lock) {
+            apply(events);
+        }
+    }
+
+    /**
+     * 스케치에 이미 반영된 위치까지의 이벤트는 건너뜁니다.
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events, long version) {
+        synchronized (lock) {
+            if (version <= this.version) {
+                return;
+            }
+            apply(events);
+            this.version = version;
+        }
+    }
+
+    private void apply(List<DomainEvent> events) {
+        final SketchesUpdate current = new SketchesUpdate(sketches);
+        for (DomainEvent event : events) {
+            if (event instanceof ProductCreated created) {
+                current.add(created.brandId(), created.category(), created.price(), 1);
+            } else if (event instanceof ProductPriceChanged changed) {
+                current.remove(changed.brandId(), changed.category(), changed.oldPrice(), 1);
+                current.add(changed.brandId(), changed.category(), changed.newPrice(), 1);
+            } else if (event instanceof ProductMoved moved) {
+                current.remove(moved.oldBrandId(), moved.oldCategory(), moved.oldPrice(), 1);
+                current.add(moved.newBrandId(), moved.newCategory(), moved.newPrice(), 1);
+            } else if (event instanceof ProductDeleted deleted) {
+                current.remove(deleted.brandId(), deleted.category(), deleted.price(), 1);
+            } else if (event instanceof BrandProductsDeleted deleted) {
+                for (ProductPriceCount priceCount : deleted.removedProducts()) {
+                    current.remove(priceCount.getBrandId(), priceCount.getCategory(),
+                        priceCount.getPrice(), priceCount.getCount());
+                }
+            }
+        }
+        this.sketches = current.result();
+    }
+
+    /**
+     * 카테고리 이름으로 가격 분위수 조회
+     *
+     * @param title 카테고리 이름
+     * @return 가격 분위수
+     */
+    public PriceQuantileDTO getCategoryQuantiles(String title) {
+        final CategoryInfo category = CategoryInfo.findByTitle(title);
+        return PriceQuantileDTO.of(category.getTitle(), sketches.categories.get(category));
+    }
+
+    /**
+     * 브랜드 가격 분위수 조회
+     *
+     * @param brandId 브랜드 ID
+     * @return 가격 분위수
+     */
+    @Transactional(readOnly = true)
+    public PriceQuantileDTO getBrandQuantiles(Long brandId) {
+        final Brand brand = brandRepository.findById(brandId)
+            .orElseThrow(() -> new EntityNotFoundException("해당 브랜드를 찾을 수 없습니다."));
+        final PriceQuantileSketch sketch = sketches.brands
+            .getOrDefault(brandId, new PriceQuantileSketch());
+        return PriceQuantileDTO.of(brand.getName(), sketch);
+    }
+
+    private static class Sketches {
+
+        private final Map<CategoryInfo, PriceQuantileSketch> categories;
+        private final Map<Long, PriceQuantileSketch> brands;
+
+        private Sketches() {
+            this.categories = new EnumMap<>(CategoryInfo.class);
+            this.brands = new ConcurrentHashMap<>();
+            for (CategoryInfo category : CategoryInfo.values()) {
+                categories.put(category, new PriceQuantileSketch());
+            }
+        }
+
+        private Sketches(Map<CategoryInfo, PriceQuantileSketch> categories,
+            Map<Long, PriceQuantileSketch> brands) {
+            this.categories = categories;
+            this.brands = brands;
+        }
+
+        /**
+         * 집계 중인 스케치에만 사용합니다. 교체된 뒤에는 {@link SketchesUpdate}로 사본을 만들어 변경합니다.
+         */
+        private void add(Long brandId, CategoryInfo category, long price, long quantity) {
+            categories.get(category).add(price, quantity);
+            brands.computeIfAbsent(brandId, id -> new PriceQuantileSketch()).add(price, quantity);
+        }
+    }
+
+    /**
+     * 처음 변경하는 카테고리, 브랜드의 스케치만 복사하여, 교체하기 전까지 조회 중인 스케치를 바꾸지 않습니다.
+     */
+    private static class SketchesUpdate {
+
+        private final Map<CategoryInfo, PriceQuantileSketch> categories;
+        private final Map<Long, PriceQuantileSketch> brands;
+        private final Set<CategoryInfo> copiedCategories = EnumSet.noneOf(CategoryInfo.class);
+        private final Set<Long> copiedBrands = new HashSet<>();
+
+        private SketchesUpdate(Sketches current) {
+            this.categories = new EnumMap<>(current.categories);
+            this.brands = new ConcurrentHashMap<>(current.brands);
+        }
+
+        private void add(Long brandId, CategoryInfo category, long price, long quantity) {
+            category(category).add(price, quantity);
+            final PriceQuantileSketch brand = brand(brandId);
+            if (brand != null) {
+                brand.add(price, quantity);
+            } else {
+                final PriceQuantileSketch created = new PriceQuantileSketch();
+                created.add(price, quantity);
+                brands.put(brandId, created);
+                copiedBrands.add(brandId);
+            }
+        }
+
+        private void remove(Long brandId, CategoryInfo category, long price, long quantity) {
+            category(category).remove(price, quantity);
+            final PriceQuantileSketch brand = brand(brandId);
+            if (brand != null) {
+                brand.remove(price, quantity);
+                // 상품이 모두 삭제된 브랜드의 스케치는 제거합니다.
+                if (brand.isEmpty()) {
+                    brands.remove(brandId);
+                }
+            }
+        }
+
+        private PriceQuantileSketch category(CategoryInfo category) {
+            if (copiedCategories.add(category)) {
+                categories.put(category, categories.get(category).copy());
+            }
+            return categories.get(category);
+        }
+
+        /**
+         * @return 스케치가 없는 브랜드면 null
+         */
+        private PriceQuantileSketch brand(Long brandId) {
+            final PriceQuantileSketch sketch = brands.get(brandId);
+            if (sketch != null && copiedBrands.add(brandId)) {
+                final PriceQuantileSketch copy = sketch.copy();
+                brands.put(brandId, copy);
+                return copy;
+            }
+            return sketch;
+        }
+
+        private Sketches result() {
+            return new Sketches(categories, brands);
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package dev.hodory.musinsa.product.service;
 
+import dev.hodory.musinsa.config.CacheConfig;
+import dev.hodory.musinsa.product.domain.basket.BasketOptimizer;
+import dev.hodory.musinsa.product.domain.basket.BasketRanking;
+import dev.hodory.musinsa.product.domain.basket.BrandCoverage;
+import dev.hodory.musinsa.product.domain.dto.BasketDTO;
+import dev.hodory.musinsa.product.domain.dto.CategoryCheapestProductsDTO;
+import dev.hodory.musinsa.product.domain.dto.DashboardDTO;
 import dev.hodory.musinsa.product.domain.dto.LowestProductPerCategoryDTO;
 import dev.hodory.musinsa.product.domain.dto.ProductLowestAndHighestDTO;
 import dev.hodory.musinsa.product.domain.dto.ProductLowestAndHighestDTO.PriceInfo;
@@ -11,25 +18,52 @@ import dev.hodory.musinsa.product.domain.dto.ProductListDTO;
 import dev.hodory.musinsa.category.domain.entity.Category;
 import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
 import dev.hodory.musinsa.category.repository.CategoryRepository;
+import dev.hodory.musinsa.common.cache.CacheVersionService;
+import dev.hodory.musinsa.common.concurrent.FanOutExecutor;
+import dev.hodory.musinsa.common.event.DomainEventPublisher;
+import dev.hodory.musinsa.common.version.CatalogVersionHeader;
+import dev.hodory.musinsa.product.domain.dto.ProductCursor;
 import dev.hodory.musinsa.product.domain.dto.ProductDTO;
+import dev.hodory.musinsa.product.domain.dto.ProductPageDTO;
 import dev.hodory.musinsa.product.domain.entity.Product;
 import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot.CategoryRange;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.event.ProductDeleted;
+import dev.hodory.musinsa.product.event.ProductMoved;
+import dev.hodory.musinsa.product.event.ProductPriceChanged;
+import dev.hodory.musinsa.product.jfr.ProductWriteEvent;
 import dev.hodory.musinsa.product.repository.ProductRepository;
+import dev.hodory.musinsa.product.shard.CategoryShardService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_CHEAPEST_SIZE = 100;
+    public static final int MAX_RANKING_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final BrandRepository brandRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FanOutExecutor fanOutExecutor;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final CategoryShardService categoryShardService;
+    private final CacheVersionService cacheVersionService;
 
     /**
      * 카테고리 조회
@@ -38,9 +72,19 @@ public class ProductService {
      * @return 카테고리
      */
     private Category getCategory(ProductDTO dto) {
+        return getCategory(dto.getCategory());
+    }
+
+    /**
+     * 카테고리 코드로 카테고리 조회
+     *
+     * @param code 카테고리 코드
+     * @return 카테고리, 코드가 없으면 null
+     */
+    private Category getCategory(String code) {
         Category category = null;
-        if (dto.getCategory() != null) {
-            final CategoryInfo categoryInfo = CategoryInfo.findByCode(dto.getCategory());
+        if (code != null) {
+            final CategoryInfo categoryInfo = CategoryInfo.findByCode(code);
             category = categoryRepository.findByCode(categoryInfo)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
         }
@@ -73,12 +117,18 @@ public class ProductService {
      * @param dto 상품 정보
      * @return 등록된 상품
      */
+    @CacheEvict(cacheNames = CacheConfig.LOWEST_PRICE_BASKET, allEntries = true)
     @Transactional(rollbackFor = RuntimeException.class)
     public ProductDTO.Response addProduct(ProductDTO dto) {
+        final ProductWriteEvent event = ProductWriteEvent.start("ADD");
         Category category = getCategory(dto);
         final Brand brand = getBrand(dto);
         final Product entity = dto.toEntity(category, brand);
         productRepository.save(entity);
+        event.finish(entity);
+        domainEventPublisher.publish(new ProductCreated(entity.getId(),
+            entity.getBrand().getId(), entity.getCategory().getCode(), entity.getPrice()));
+        cacheVersionService.bump(EnumSet.of(entity.getCategory().getCode()));
         return ProductDTO.Response.of(entity);
     }
 
@@ -89,12 +139,17 @@ public class ProductService {
      * @param dto 상품 정보
      * @return 수정된 상품
      */
+    @CacheEvict(cacheNames = CacheConfig.LOWEST_PRICE_BASKET, allEntries = true)
     @Transactional(rollbackFor = RuntimeException.class)
     public ProductDTO.Response updateProduct(Long id, ProductDTO dto) {
+        final ProductWriteEvent event = ProductWriteEvent.start("UPDATE");
         Category category = getCategory(dto);
         final Brand brand = getBrand(dto);
 
         final Product entity = getProduct(id);
+        final Long oldBrandId = entity.getBrand().getId();
+        final CategoryInfo oldCategory = entity.getCategory().getCode();
+        final long oldPrice = entity.getPrice();
 
         if (category != null && !entity.getCategory().equals(category)) {
             entity.setCategory(category);
@@ -109,6 +164,19 @@ public class ProductService {
         }
 
         final Product result = productRepository.save(entity);
+        event.finish(result);
+        final Long newBrandId = result.getBrand().getId();
+        final CategoryInfo newCategory = result.getCategory().getCode();
+        final long newPrice = result.getPrice();
+        if (!oldBrandId.equals(newBrandId) || oldCategory != newCategory) {
+            domainEventPublisher.publish(new ProductMoved(result.getId(),
+                oldBrandId, oldCategory, oldPrice, newBrandId, newCategory, newPrice));
+            cacheVersionService.bump(EnumSet.of(oldCategory, newCategory));
+        } else if (oldPrice != newPrice) {
+            domainEventPublisher.publish(new ProductPriceChanged(result.getId(),
+                newBrandId, newCategory, oldPrice, newPrice));
+            cacheVersionService.bump(EnumSet.of(newCategory));
+        }
         return ProductDTO.Response.of(result);
     }
 
@@ -118,14 +186,72 @@ public class ProductService {
      * @param id 상품 ID
      * @return 삭제된 상품
      */
+    @CacheEvict(cacheNames = CacheConfig.LOWEST_PRICE_BASKET, allEntries = true)
     @Transactional(rollbackFor = RuntimeException.class)
     public ProductDTO.Response deleteProduct(Long id) {
+        final ProductWriteEvent event = ProductWriteEvent.start("DELETE");
         final Product entity = getProduct(id);
 
         productRepository.deleteById(id);
+        event.finish(entity);
+        domainEventPublisher.publish(new ProductDeleted(entity.getId(),
+            entity.getBrand().getId(), entity.getCategory().getCode(), entity.getPrice()));
+        cacheVersionService.bump(EnumSet.of(entity.getCategory().getCode()));
         return ProductDTO.Response.of(entity);
     }
 
+    /**
+     * 상품 목록 조회
+     *
+     * @param categoryCode 카테고리 코드 (null 이면 전체)
+     * @param brandId      브랜드 ID (null 이면 전체)
+     * @param after        이전 페이지의 next_cursor (null 이면 첫 페이지)
+     * @param size         페이지 크기
+     * @return 가격, ID 오름차순 상품 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPageDTO getProducts(String categoryCode, Long brandId, String after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        final Category category = getCategory(categoryCode);
+        final Long categoryId = category == null ? null : category.getId();
+
+        final List<ProductDTO.Response> products = productRepository
+            .findPage(categoryId, brandId, ProductCursor.decode(after), size + 1)
+            .stream()
+            .map(ProductDTO.Response::of)
+            .toList();
+
+        return ProductPageDTO.of(products, size);
+    }
+
+    /**
+     * 카탈로그 스냅샷을 사용할 수 있으면 스냅샷의 버전을 응답 헤더로 기록하고 반환합니다. 클라이언트가 최소 버전을 요청했으면
+     * 스냅샷이 그 버전에 도달할 때까지 잠시 기다립니다. 스냅샷을 사용할 수 없으면 카테고리 샤드에서 집계한 스냅샷을 사용하고,
+     * 둘 다 없으면 empty를 반환하여 DB를 직접 조회하게 합니다.
+     *
+     * @return 스냅샷과 카테고리 샤드를 모두 사용할 수 없으면 empty
+     */
+    private Optional<CatalogSnapshot> readSnapshot() {
+        final Long minVersion = CatalogVersionHeader.requested();
+        Optional<CatalogSnapshot> snapshot = minVersion == null
+            ? catalogSnapshotService.current()
+            : catalogSnapshotService.awaitVersion(minVersion);
+        if (snapshot.isEmpty()) {
+            snapshot = categoryShardService.aggregate();
+        }
+
+        if (snapshot.isPresent()) {
+            CatalogVersionHeader.record(snapshot.get().getVersion());
+        } else if (minVersion != null) {
+            // DB를 직접 조회하면 커밋된 변경을 모두 읽으므로 요청한 버전 이상입니다.
+            CatalogVersionHeader.record(minVersion);
+        }
+        return snapshot;
+    }
+
     /**
      * 카테고리별 최저가 상품 조회
      *
@@ -133,7 +259,16 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public ProductListDTO getLowestPricePerCategory() {
-        List<LowestPriceProductDTO> lowestPriceProducts = productRepository.findLowestPricePerCategory();
+        final Optional<CatalogSnapshot> snapshot = readSnapshot();
+        List<LowestPriceProductDTO> lowestPriceProducts = snapshot.isPresent()
+            ? snapshot.get().getLowestPerCategory().stream()
+                .map(product -> LowestPriceProductDTO.builder()
+                    .category(product.getCategoryName())
+                    .brand(product.getBrandName())
+                    .price(product.getPrice())
+                    .build())
+                .toList()
+            : productRepository.findLowestPricePerCategory();
 
         if (lowestPriceProducts.isEmpty()) {
             throw new EntityNotFoundException("등록된 상품이 없습니다.");
@@ -150,6 +285,25 @@ public class ProductService {
         return ProductListDTO.of(products);
     }
 
+    /**
+     * 카테고리별 최저가 상품 K개 조회
+     *
+     * @param size 카테고리별 조회할 상품 수
+     * @return 카테고리별 가격 오름차순 상품
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryCheapestProductsDTO> getCheapestProductsPerCategory(int size) {
+        if (size < 1 || size > MAX_CHEAPEST_SIZE) {
+            throw new IllegalArgumentException(
+                "조회할 상품 수는 1 이상 " + MAX_CHEAPEST_SIZE + " 이하여야 합니다.");
+        }
+
+        return categoryRepository.findAll(Sort.by("id")).stream()
+            .map(category -> CategoryCheapestProductsDTO.of(category.getTitle(),
+                productRepository.findCheapestByCategoryId(category.getId(), size)))
+            .toList();
+    }
+
     /**
      * 최저가 브랜드의 상품 정보 조회
      *
@@ -157,6 +311,59 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public BrandProductDTO getLowestPriceBrand() {
+        return getLowestPriceBrandRanking(1).get(0);
+    }
+
+    /**
+     * 모든 카테고리 상품을 가진 브랜드를 총액 오름차순으로 조회
+     *
+     * @param size 조회할 브랜드 수
+     * @return 총액 오름차순 브랜드의 상품 정보
+     */
+    @Transactional(readOnly = true)
+    public List<BrandProductDTO> getLowestPriceBrandRanking(int size) {
+        if (size < 1 || size > MAX_RANKING_SIZE) {
+            throw new IllegalArgumentException(
+                "조회할 브랜드 수는 1 이상 " + MAX_RANKING_SIZE + " 이하여야 합니다.");
+        }
+
+        final Optional<CatalogSnapshot> snapshot = readSnapshot();
+        final List<BrandCoverage> coverages = snapshot.isPresent()
+            ? snapshot.get().getCoverages()
+            : BrandCoverage.of(productRepository.findLowestPriceGroupByBrandIdAndCategoryId());
+
+        if (coverages.isEmpty()) {
+            throw new EntityNotFoundException("등록된 상품이 없습니다.");
+        }
+
+        final int categoryMask = CategoryInfo.maskOf(EnumSet.allOf(CategoryInfo.class));
+        final List<BrandCoverage> ranking = BasketRanking.top(coverages, categoryMask, size);
+
+        if (ranking.isEmpty()) {
+            throw new EntityNotFoundException("모든 카테고리의 상품을 가진 브랜드가 없습니다.");
+        }
+
+        return ranking.stream()
+            .map(coverage -> BrandProductDTO.of(coverage.products(categoryMask)))
+            .toList();
+    }
+
+    /**
+     * 선택한 카테고리 조합을 모두 가진 브랜드 중 최저가 브랜드의 상품 정보 조회
+     * 카테고리 조합(최대 2^8 - 1 가지)의 비트마스크를 키로 결과를 캐시합니다.
+     *
+     * @param categories 카테고리 조합
+     * @return 최저가 브랜드
+     */
+    @Cacheable(cacheNames = CacheConfig.LOWEST_PRICE_BASKET,
+        key = "T(dev.hodory.musinsa.category.domain.enums.CategoryInfo).maskOf(#categories)",
+        sync = true)
+    @Transactional(readOnly = true)
+    public BrandProductDTO getLowestPriceBrand(Set<CategoryInfo> categories) {
+        if (categories == null || categories.isEmpty()) {
+            throw new IllegalArgumentException("카테고리를 하나 이상 선택해야 합니다.");
+        }
+
         final List<ProductInfo> productInfoList = productRepository
             .findLowestPriceGroupByBrandIdAndCategoryId();
 
@@ -164,38 +371,91 @@ public class ProductService {
             throw new EntityNotFoundException("등록된 상품이 없습니다.");
         }
 
-        final int totalCategories = CategoryInfo.values().length;
+        final int categoryMask = CategoryInfo.maskOf(categories);
 
-        final Map<Long, List<ProductInfo>> brandGroups = productInfoList.stream()
-            .collect(Collectors.groupingBy(ProductInfo::getBrandId));
+        return BasketRanking.top(BrandCoverage.of(productInfoList), categoryMask, 1).stream()
+            .findFirst()
+            .map(coverage -> BrandProductDTO.of(coverage.products(categoryMask)))
+            .orElseThrow(() -> new EntityNotFoundException("선택한 카테고리의 상품을 모두 가진 브랜드가 없습니다."));
+    }
 
-        return brandGroups.values().parallelStream()
-            .filter(brandProductList -> brandProductList.size() == totalCategories)
-            .map(BrandProductDTO::of)
-            .min(Comparator.comparingLong(BrandProductDTO::getTotalPrice))
-            .orElseThrow(() -> new EntityNotFoundException("모든 카테고리의 상품을 가진 브랜드가 없습니다."));
+    /**
+     * 선택한 카테고리 조합을 최대 maxBrands 개의 브랜드에서 나누어 구매할 때 최저가 배정 조회
+     *
+     * @param categories 카테고리 조합
+     * @param maxBrands  최대 브랜드 수
+     * @return 브랜드별 상품 정보와 총액
+     */
+    @Transactional(readOnly = true)
+    public BasketDTO getOptimalBasket(Set<CategoryInfo> categories, int maxBrands) {
+        if (categories == null || categories.isEmpty()) {
+            throw new IllegalArgumentException("카테고리를 하나 이상 선택해야 합니다.");
+        }
+
+        if (maxBrands < 1 || maxBrands > CategoryInfo.values().length) {
+            throw new IllegalArgumentException(
+                "최대 브랜드 수는 1 이상 " + CategoryInfo.values().length + " 이하여야 합니다.");
+        }
+
+        final List<ProductInfo> productInfoList = productRepository
+            .findLowestPriceGroupByBrandIdAndCategoryId();
+
+        if (productInfoList.isEmpty()) {
+            throw new EntityNotFoundException("등록된 상품이 없습니다.");
+        }
+
+        final List<BasketOptimizer.Assignment> assignments = BasketOptimizer.optimize(
+            BrandCoverage.of(productInfoList), CategoryInfo.maskOf(categories), maxBrands);
+
+        if (assignments.isEmpty()) {
+            throw new EntityNotFoundException("선택한 카테고리 중 상품이 없는 카테고리가 있습니다.");
+        }
+
+        return BasketDTO.of(assignments.stream()
+            .map(assignment -> BrandProductDTO.of(
+                assignment.coverage().products(assignment.categoryMask())))
+            .toList());
     }
 
     /**
      * 카테고리 이름으로 최저, 최고 가격 브랜드와 상품 가격을 조회
+     * 최저가와 최고가 조회는 서로 독립적이므로 {@link FanOutExecutor}로 병렬 실행합니다.
      *
      * @param categoryName 카테고리 이름
      * @return 최저, 최고 가격 브랜드와 상품 가격
      */
-    @Transactional(readOnly = true)
     public ProductLowestAndHighestDTO getLowestAndHighestPriceBrandByCategoryName(
         String categoryName) {
+        final Optional<CatalogSnapshot> snapshot = readSnapshot();
+        if (snapshot.isPresent()) {
+            if (Arrays.stream(CategoryInfo.values())
+                .noneMatch(info -> info.getTitle().equals(categoryName))) {
+                throw new EntityNotFoundException("존재하지 않는 카테고리입니다.");
+            }
+            final CategoryRange range = snapshot.get().findCategoryRange(categoryName)
+                .orElseThrow(() -> new EntityNotFoundException("해당 카테고리에 등록된 상품이 없습니다."));
+            return ProductLowestAndHighestDTO.builder()
+                .category(categoryName)
+                .lowest(convertToPriceInfoList(range.lowest()))
+                .highest(convertToPriceInfoList(range.highest()))
+                .build();
+        }
+
         Category category = categoryRepository.findByTitle(categoryName)
             .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 카테고리입니다."));
 
-        List<ProductInfo> lowestPrices = productRepository.findLowestPriceByCategoryId(
-            category.getId());
+        final Long categoryId = category.getId();
+        final List<Supplier<List<ProductInfo>>> queries = List.of(
+            () -> productRepository.findLowestPriceByCategoryId(categoryId),
+            () -> productRepository.findHighestPriceByCategoryId(categoryId));
+        final List<List<ProductInfo>> results = fanOutExecutor.invokeAll(queries);
+
+        List<ProductInfo> lowestPrices = results.get(0);
         if (lowestPrices.isEmpty()) {
             throw new EntityNotFoundException("해당 카테고리에 등록된 상품이 없습니다.");
         }
 
-        List<ProductInfo> highestPrices = productRepository.findHighestPriceByCategoryId(
-            category.getId());
+        List<ProductInfo> highestPrices = results.get(1);
         if (highestPrices.isEmpty()) {
             throw new EntityNotFoundException("해당 카테고리에 등록된 상품이 없습니다.");
         }
@@ -207,6 +467,52 @@ public class ProductService {
             .build();
     }
 
+    /**
+     * 카테고리별 최저가, 모든 카테고리를 가진 최저가 브랜드, 카테고리별 최저가/최고가 브랜드를 한 번에 조회
+     * 브랜드, 카테고리별 최소/최대 가격을 한 번만 집계한 {@link CatalogSnapshot}에서 세 결과를 모두 계산하므로 결과가 서로 일치합니다.
+     *
+     * @return 대시보드
+     */
+    @Transactional(readOnly = true)
+    public DashboardDTO getDashboard() {
+        final CatalogSnapshot snapshot = readSnapshot().orElseGet(() -> {
+            final List<ProductPriceRange> ranges = productRepository
+                .findPriceRangeGroupByBrandIdAndCategoryId();
+            return CatalogSnapshot.of(0L, ranges);
+        });
+
+        if (snapshot.getCategoryRanges().isEmpty()) {
+            throw new EntityNotFoundException("등록된 상품이 없습니다.");
+        }
+
+        final List<LowestProductPerCategoryDTO> lowestPerCategory = snapshot.getLowestPerCategory()
+            .stream()
+            .map(product -> LowestProductPerCategoryDTO.builder()
+                .category(product.getCategoryName())
+                .brand(product.getBrandName())
+                .price(product.getPrice())
+                .build())
+            .toList();
+        final List<ProductLowestAndHighestDTO> categories = snapshot.getCategoryRanges().stream()
+            .map(range -> ProductLowestAndHighestDTO.builder()
+                .category(range.category())
+                .lowest(convertToPriceInfoList(range.lowest()))
+                .highest(convertToPriceInfoList(range.highest()))
+                .build())
+            .toList();
+
+        final int categoryMask = CategoryInfo.maskOf(EnumSet.allOf(CategoryInfo.class));
+        final List<BrandCoverage> lowestBrand = BasketRanking.top(snapshot.getCoverages(),
+            categoryMask, 1);
+
+        return DashboardDTO.builder()
+            .lowestPrice(ProductListDTO.of(lowestPerCategory))
+            .lowestBrand(lowestBrand.isEmpty() ? null
+                : BrandProductDTO.of(lowestBrand.get(0).products(categoryMask)))
+            .categories(categories)
+            .build();
+    }
+
     /**
      * ProductInfo 리스트를 PriceInfo 리스트로 변환
      *
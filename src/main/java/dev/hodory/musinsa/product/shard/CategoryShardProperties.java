@@ -0,0 +1,26 @@
+package dev.hodory.musinsa.product.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "musinsa.category-shards")
+public class CategoryShardProperties {
+
+    /**
+     * 카테고리별로 나눈 샤드에서 최저가 집계를 조회할지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 샤드 수. 카테고리는 ordinal을 샤드 수로 나눈 나머지 번호의 샤드에 저장됩니다.
+     */
+    private int count = 4;
+
+    /**
+     * 샤드 접속 URL 형식. {@code %d}에 샤드 번호가 들어갑니다.
+     */
+    private String urlTemplate = "jdbc:h2:mem:product-shard-%d;DB_CLOSE_DELAY=-1";
+}
@@ -0,0 +1,184 @@
+package dev.hodory.musinsa.product.shard;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.concurrent.FanOutExecutor;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.common.event.DomainEventListener;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.event.ProductDeleted;
+import dev.hodory.musinsa.product.event.ProductMoved;
+import dev.hodory.musinsa.product.event.ProductPriceChanged;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품을 카테고리별 샤드에 나누어 두고, 최저가 집계를 샤드마다 병렬로 계산한 뒤 합칩니다.
+ *
+ * <p>원본 DB가 상품의 원본 저장소이며, 샤드는 outbox 릴레이가 전달한 변경에 해당하는 카테고리를 원본에서 다시 읽어
+ * 교체합니다. 상품의 쓰기는 원본 DB에 그대로 남고, 샤드는 브랜드, 카테고리별 집계 조회만 원본 DB에서 덜어냅니다.
+ * 합친 결과는 단일 DB 집계와 같은 순서(카테고리 ID, 브랜드 ID)로 정렬한 뒤 {@link CatalogSnapshot}으로 계산하므로,
+ * 단일 DB에서 계산한 응답과 같습니다.
+ *
+ * <p>한 번의 변경이 여러 샤드에 걸칠 수 있으므로(브랜드 삭제 등) 샤드 교체와 집계를 읽기/쓰기 잠금으로 나누어, 집계는 모든
+ * 샤드가 교체되기 전이나 후의 상품만 봅니다. 교체가 일부 샤드에서만 끝나고 실패하면 outbox 릴레이가 다시 전달할 때까지
+ * 샤드를 사용하지 않습니다.
+ *
+ * <p>집계는 카탈로그 스냅샷을 사용할 수 없거나 요청한 버전에 도달하지 못했을 때만 사용하므로, 스냅샷을 함께 켜 두면 대체
+ * 경로로만 동작합니다.
+ */
+@Slf4j
+@Service
+public class CategoryShardService implements DomainEventListener, DisposableBean {
+
+    private static final Comparator<ProductPriceRange> CATEGORY_THEN_BRAND = Comparator
+        .comparing(ProductPriceRange::getCategoryId)
+        .thenComparing(ProductPriceRange::getBrandId);
+
+    private final ProductRepository productRepository;
+    private final FanOutExecutor fanOutExecutor;
+    private final TransactionTemplate sourceTransaction;
+    private final CategoryShards shards;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long version = -1L;
+
+    public CategoryShardService(ProductRepository productRepository,
+        FanOutExecutor fanOutExecutor,
+        TransactionTemplate transactionTemplate, CategoryShardProperties properties) {
+        this.productRepository = productRepository;
+        this.fanOutExecutor = fanOutExecutor;
+        this.sourceTransaction = new TransactionTemplate(
+            transactionTemplate.getTransactionManager());
+        this.sourceTransaction.setReadOnly(true);
+        this.sourceTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.shards = properties.isEnabled() ? new CategoryShards(properties) : null;
+    }
+
+    @Override
+    public void load(long version) {
+        if (shards == null) {
+            return;
+        }
+        final Map<CategoryInfo, List<ProductInfo>> products = sourceTransaction.execute(
+            status -> read(EnumSet.allOf(CategoryInfo.class)));
+        replace(products, version);
+        log.info("카테고리 샤드를 채웠습니다. shards={}, version={}", shards.size(), version);
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        onEvents(events, version);
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events, long version) {
+        if (shards == null || events.isEmpty()) {
+            return;
+        }
+        final Map<CategoryInfo, List<ProductInfo>> products = sourceTransaction.execute(
+            status -> read(affectedCategories(events)));
+        replace(products, version);
+    }
+
+    /**
+     * 상품 이벤트는 해당 카테고리만, 브랜드 이벤트는 브랜드의 상품이 있는 모든 카테고리를 다시 읽습니다.
+     */
+    private Set<CategoryInfo> affectedCategories(List<DomainEvent> events) {
+        final Set<CategoryInfo> categories = EnumSet.noneOf(CategoryInfo.class);
+        for (DomainEvent event : events) {
+            if (event instanceof ProductCreated created) {
+                categories.add(created.category());
+            } else if (event instanceof ProductPriceChanged changed) {
+                categories.add(changed.category());
+            } else if (event instanceof ProductMoved moved) {
+                categories.add(moved.oldCategory());
+                categories.add(moved.newCategory());
+            } else if (event instanceof ProductDeleted deleted) {
+                categories.add(deleted.category());
+            } else {
+                return EnumSet.allOf(CategoryInfo.class);
+            }
+        }
+        return categories;
+    }
+
+    private Map<CategoryInfo, List<ProductInfo>> read(Set<CategoryInfo> categories) {
+        final Map<CategoryInfo, List<ProductInfo>> products = new EnumMap<>(CategoryInfo.class);
+        for (CategoryInfo category : categories) {
+            products.put(category, productRepository.findAllByCategoryCode(category));
+        }
+        return products;
+    }
+
+    /**
+     * 원본에서 읽은 카테고리들을 집계가 없는 동안 모든 샤드에서 함께 교체합니다.
+     */
+    private void replace(Map<CategoryInfo, List<ProductInfo>> products, long version) {
+        lock.writeLock().lock();
+        try {
+            this.version = -1L;
+            shards.replace(products);
+            this.version = version;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 샤드의 브랜드, 카테고리별 최소, 최대 가격을 병렬로 조회하여 하나의 스냅샷으로 합칩니다.
+     *
+     * @return 샤드를 사용하지 않거나, 아직 채우지 않았거나, 요구되는 카탈로그 버전을 반영하지 못했으면 empty
+     */
+    public Optional<CatalogSnapshot> aggregate() {
+        if (shards == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            final long current = version;
+            if (current < 0) {
+                return Optional.empty();
+            }
+            final Long required = CatalogVersionRequirement.current();
+            if (required != null && current < required) {
+                return Optional.empty();
+            }
+
+            final List<Supplier<List<ProductPriceRange>>> tasks = IntStream.range(0, shards.size())
+                .<Supplier<List<ProductPriceRange>>>mapToObj(shard -> () -> shards.findPriceRanges(shard))
+                .toList();
+            final List<ProductPriceRange> ranges = new ArrayList<>();
+            fanOutExecutor.invokeAllWithoutTransaction(tasks).forEach(ranges::addAll);
+            ranges.sort(CATEGORY_THEN_BRAND);
+            return Optional.of(CatalogSnapshot.of(current, ranges));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (shards != null) {
+            shards.close();
+        }
+    }
+}
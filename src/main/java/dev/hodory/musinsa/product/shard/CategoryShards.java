@@ -0,0 +1,142 @@
+package dev.hodory.musinsa.product.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품을 카테고리별로 나누어 저장하는 샤드입니다. 한 카테고리의 상품은 항상 같은 샤드에 있으므로,
+ * 브랜드, 카테고리별 최소/최대 가격은 샤드 안에서 계산이 끝납니다.
+ */
+public class CategoryShards implements AutoCloseable {
+
+    private static final String CREATE_TABLE = """
+        CREATE TABLE IF NOT EXISTS product_shard (
+            category_code VARCHAR(32) NOT NULL,
+            product_id BIGINT NOT NULL,
+            brand_id BIGINT NOT NULL,
+            brand_name VARCHAR(255),
+            category_id BIGINT NOT NULL,
+            category_name VARCHAR(255),
+            price BIGINT NOT NULL
+        )""";
+    private static final String CREATE_INDEX = "CREATE INDEX IF NOT EXISTS "
+        + "idx_product_shard_category_brand_price ON product_shard (category_code, brand_id, price)";
+    private static final String DELETE_CATEGORY = "DELETE FROM product_shard WHERE category_code = ?";
+    private static final String INSERT = "INSERT INTO product_shard "
+        + "(category_code, product_id, brand_id, brand_name, category_id, category_name, price) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_PRICE_RANGES = """
+        SELECT grouped.*,
+               (SELECT MAX(cheapest.product_id)
+                  FROM product_shard cheapest
+                 WHERE cheapest.category_code = grouped.category_code
+                   AND cheapest.brand_id = grouped.brand_id
+                   AND cheapest.price = grouped.min_price) AS lowest_product_id
+          FROM (SELECT category_code, brand_id, MAX(brand_name) AS brand_name, category_id,
+                       MAX(category_name) AS category_name, MIN(price) AS min_price,
+                       MAX(price) AS max_price
+                  FROM product_shard
+                 GROUP BY category_code, brand_id, category_id) grouped""";
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final List<JdbcTemplate> jdbcTemplates = new ArrayList<>();
+    private final List<TransactionTemplate> transactionTemplates = new ArrayList<>();
+
+    public CategoryShards(CategoryShardProperties properties) {
+        if (properties.getCount() < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다.");
+        }
+        for (int index = 0; index < properties.getCount(); index++) {
+            final HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(String.format(properties.getUrlTemplate(), index))
+                .username("sa")
+                .password("")
+                .build();
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute(CREATE_TABLE);
+            jdbcTemplate.execute(CREATE_INDEX);
+
+            dataSources.add(dataSource);
+            jdbcTemplates.add(jdbcTemplate);
+            transactionTemplates.add(
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        }
+    }
+
+    public int size() {
+        return jdbcTemplates.size();
+    }
+
+    public int shardOf(CategoryInfo category) {
+        return category.ordinal() % size();
+    }
+
+    /**
+     * 카테고리들의 상품을 교체합니다. 한 샤드에 속한 카테고리는 한 트랜잭션에서 교체되지만, 샤드 사이의 교체는 원자적이지 않으므로
+     * 여러 샤드를 함께 교체하는 동안 조회하지 않도록 호출하는 쪽에서 막아야 합니다.
+     *
+     * @param products 카테고리별 모든 상품
+     */
+    public void replace(Map<CategoryInfo, List<ProductInfo>> products) {
+        final Map<Integer, List<CategoryInfo>> categoriesByShard = products.keySet().stream()
+            .collect(Collectors.groupingBy(this::shardOf, TreeMap::new, Collectors.toList()));
+        categoriesByShard.forEach((shard, categories) -> {
+            final JdbcTemplate jdbcTemplate = jdbcTemplates.get(shard);
+            transactionTemplates.get(shard).executeWithoutResult(status -> {
+                for (CategoryInfo category : categories) {
+                    replace(jdbcTemplate, category, products.get(category));
+                }
+            });
+        });
+    }
+
+    private void replace(JdbcTemplate jdbcTemplate, CategoryInfo category,
+        List<ProductInfo> products) {
+        jdbcTemplate.update(DELETE_CATEGORY, category.name());
+        jdbcTemplate.batchUpdate(INSERT, products, Math.max(1, products.size()), (statement, product) -> {
+            statement.setString(1, category.name());
+            statement.setLong(2, product.getProductId());
+            statement.setLong(3, product.getBrandId());
+            statement.setString(4, product.getBrandName());
+            statement.setLong(5, product.getCategoryId());
+            statement.setString(6, product.getCategoryName());
+            statement.setLong(7, product.getPrice());
+        });
+    }
+
+    /**
+     * 한 샤드의 브랜드, 카테고리별 최소, 최대 가격과 최저가 상품 중 가장 큰 상품 ID를 조회합니다.
+     *
+     * @param shard 샤드 번호
+     * @return 정렬되지 않은 최소, 최대 가격 리스트
+     */
+    public List<ProductPriceRange> findPriceRanges(int shard) {
+        return jdbcTemplates.get(shard).query(SELECT_PRICE_RANGES, (resultSet, rowNum) ->
+            ProductPriceRange.builder()
+                .brandId(resultSet.getLong("brand_id"))
+                .brandName(resultSet.getString("brand_name"))
+                .categoryId(resultSet.getLong("category_id"))
+                .categoryName(resultSet.getString("category_name"))
+                .minPrice(resultSet.getLong("min_price"))
+                .maxPrice(resultSet.getLong("max_price"))
+                .lowestProductId(resultSet.getLong("lowest_product_id"))
+                .build());
+    }
+
+    @Override
+    public void close() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
@@ -91,4 +91,14 @@ VALUES (1, 1, 11200),
        (9, 5, 2400),
        (9, 6, 1700),
        (9, 7, 1700),
-       (9, 8, 2400);
\ No newline at end of file
+       (9, 8, 2400);
+
+INSERT INTO `cache_version` (`scope`, `version`)
+VALUES ('TOP', 0),
+       ('OUTER', 0),
+       ('PANTS', 0),
+       ('SNEAKERS', 0),
+       ('BAG', 0),
+       ('HAT', 0),
+       ('SOCKS', 0),
+       ('ACCESSORY', 0);
@@ -0,0 +1,193 @@
+package dev.hodory.musinsa.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.hodory.musinsa.MusinsaApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 느린 DB를 흉내 낸 환경에서 플랫폼 스레드와 가상 스레드의 처리량, p99 응답 시간을 비교합니다.
+ *
+ * <p>{@code ./gradlew benchmark -PjavaVersion=21}로 실행하며, 기본 test 태스크에서는 제외됩니다.
+ * Tomcat 스레드 수를 커넥션 풀보다 작게 제한하여 요청 스레드가 병목이 되는 상황을 만듭니다.
+ * 처리량은 실행 환경에 따라 달라지므로 비교 결과는 로그로만 남기고, 모든 요청이 성공했는지만 확인합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("스레드 모델 벤치마크")
+class ThreadModelBenchmarkTest {
+
+    private static final Duration DB_LATENCY = Duration.ofMillis(20);
+    private static final int TOMCAT_MAX_THREADS = 20;
+    private static final int CONNECTION_POOL_SIZE = 200;
+    private static final int CLIENTS = 200;
+    private static final int WARM_UP_REQUESTS = 500;
+    private static final int REQUESTS = 4000;
+    private static final String PATH = "/api/v1/products/lowest-price";
+
+    @Test
+    @DisplayName("플랫폼 스레드와 가상 스레드로 느린 DB 요청을 처리하고 처리량, p50, p99 응답 시간을 기록한다")
+    void compareThroughputAndP99() throws Exception {
+        final Result platform = run(false);
+        final Result virtual = run(true);
+
+        log.info("{}\n{}\n{}", String.format("%-10s %12s %10s %10s", "mode", "throughput",
+            "p50(ms)", "p99(ms)"), platform, virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        final String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+            MusinsaApplication.class, SlowDataSourceConfig.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                "server.tomcat.accept-count=" + CLIENTS * 2,
+                "spring.datasource.url=jdbc:h2:mem:benchmark_" + mode,
+                "spring.datasource.hikari.maximum-pool-size=" + CONNECTION_POOL_SIZE,
+                "spring.jpa.show-sql=false",
+                "musinsa.slow-query.enabled=false")
+            .run()) {
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final URI uri = URI.create("http://localhost:" + port + PATH);
+
+            load(uri, WARM_UP_REQUESTS);
+            return load(uri, REQUESTS).named(mode);
+        }
+    }
+
+    private Result load(URI uri, int requests) throws Exception {
+        final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        final HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        final AtomicInteger remaining = new AtomicInteger(requests);
+        final AtomicInteger failures = new AtomicInteger();
+        final List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+
+        final ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        final long started = System.nanoTime();
+        try {
+            final List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        final long sent = System.nanoTime();
+                        try {
+                            final HttpResponse<Void> response = client.send(request,
+                                HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - sent);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+        final long elapsed = System.nanoTime() - started;
+
+        final List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result("", requests * 1_000_000_000.0 / elapsed,
+            percentile(sorted, 0.50), percentile(sorted, 0.99), failures.get());
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        final int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record Result(String mode, double throughput, double p50, double p99, int failures) {
+
+        private Result named(String mode) {
+            return new Result(mode, throughput, p50, p99, failures);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %10.1f/s %10.1f %10.1f", mode, throughput, p50, p99);
+        }
+    }
+
+    /**
+     * 커넥션을 얻을 때마다 {@link #DB_LATENCY}만큼 대기하여 느린 DB를 흉내 냅니다. 라우팅, 복제, 느린 쿼리 로그처럼 다른
+     * DataSource를 감싸는 DataSource까지 감싸면 커넥션 하나에 지연이 여러 번 더해지므로, 실제 커넥션을 만드는 풀만 감쌉니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class SlowDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor slowDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof HikariDataSource dataSource) {
+                        return new SlowDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static class SlowDataSource extends DelegatingDataSource {
+
+        private SlowDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                Thread.sleep(DB_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package dev.hodory.musinsa.integrations.category.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.hodory.musinsa.category.domain.stats.CategoryPriceStats;
+import dev.hodory.musinsa.integrations.IntegrationControllerTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+@DisplayName("CategoryController의 Integration 테스트를 실행 합니다.")
+class CategoryControllerTest extends IntegrationControllerTestBase {
+
+    @Nested
+    @DisplayName("카테고리 가격 통계 조회 테스트")
+    class GetStats {
+
+        @Test
+        @DisplayName("카테고리의 상품 수, 합계, 최저가, 최고가, 히스토그램을 조회합니다.")
+        void getStats_success() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/categories/TOP/stats"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.category").value("상의"))
+                .andExpect(jsonPath("$.data.count").value(9))
+                .andExpect(jsonPath("$.data.sum").value(96400))
+                .andExpect(jsonPath("$.data.min").value(10000))
+                .andExpect(jsonPath("$.data.max").value(11400))
+                .andExpect(jsonPath("$.data.histogram",
+                    hasSize(CategoryPriceStats.HISTOGRAM_BOUNDS.length)))
+                .andExpect(jsonPath("$.data.histogram[4].from").value(10000))
+                .andExpect(jsonPath("$.data.histogram[4].count").value(9));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 카테고리 코드로 조회하면 400 에러를 반환합니다.")
+        void getStats_failure_whenCategoryIsInvalid() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/categories/UNKNOWN/stats"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+        }
+    }
+}
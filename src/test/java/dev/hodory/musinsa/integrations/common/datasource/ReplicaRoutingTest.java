@@ -0,0 +1,98 @@
+package dev.hodory.musinsa.integrations.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.datasource.H2ReplicationShim;
+import dev.hodory.musinsa.integrations.IntegrationServiceTestBase;
+import dev.hodory.musinsa.product.domain.dto.ProductDTO;
+import dev.hodory.musinsa.product.service.ProductService;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 복제는 커밋된 데이터만 복사하므로 테스트 트랜잭션을 사용하지 않고, 변경한 데이터는 테스트가 끝나면 되돌립니다.
+ */
+@DisplayName("읽기/쓰기 DB 분리를 검증 합니다.")
+@ActiveProfiles("replica")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica_routing_test",
+    "spring.datasource.hikari.maximum-pool-size=7",
+    "musinsa.replica.url=jdbc:h2:mem:replica_routing_test_replica;DB_CLOSE_DELAY=-1"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingTest extends IntegrationServiceTestBase {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private H2ReplicationShim h2ReplicationShim;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long addedProductId;
+
+    @AfterEach
+    void tearDown() {
+        if (addedProductId != null) {
+            productService.deleteProduct(addedProductId);
+        }
+    }
+
+    @Test
+    @DisplayName("원본 DB의 커넥션 풀에 spring.datasource.hikari 설정을 적용한다.")
+    void appliesHikariPropertiesToPrimary() throws SQLException {
+        assertThat(primaryDataSource.unwrap(HikariDataSource.class).getMaximumPoolSize())
+            .isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("복제된 뒤의 읽기 전용 트랜잭션은 복제 DB에서 등록된 상품을 조회한다.")
+    void readsCommittedWriteFromReplica() {
+        // Given
+        addedProductId = productService.addProduct(ProductDTO.builder()
+            .category(CategoryInfo.TOP.name())
+            .brandId(1L)
+            .price(1L)
+            .build()).getId();
+        final Long outboxVersion = new JdbcTemplate(primaryDataSource)
+            .queryForObject("select max(id) from outbox_event", Long.class);
+
+        // When
+        h2ReplicationShim.sync();
+
+        // Then
+        assertThat(h2ReplicationShim.replicatedVersion()).isGreaterThanOrEqualTo(outboxVersion);
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        final TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            assertThat(jdbcTemplate.queryForObject("select database()", String.class))
+                .isEqualToIgnoringCase("replica_routing_test_replica");
+            assertThat(jdbcTemplate.queryForObject(
+                "select price from product where id = ?", Long.class, addedProductId))
+                .isEqualTo(1L);
+        });
+    }
+}
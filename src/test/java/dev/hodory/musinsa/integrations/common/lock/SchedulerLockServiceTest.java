@@ -0,0 +1,119 @@
+package dev.hodory.musinsa.integrations.common.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.common.lock.SchedulerLock;
+import dev.hodory.musinsa.common.lock.SchedulerLockProperties;
+import dev.hodory.musinsa.common.lock.SchedulerLockRepository;
+import dev.hodory.musinsa.common.lock.SchedulerLockService;
+import dev.hodory.musinsa.integrations.IntegrationServiceTestBase;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("노드 간 작업 잠금을 검증 합니다.")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLockServiceTest extends IntegrationServiceTestBase {
+
+    private static final Duration LEASE = Duration.ofMillis(300);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SchedulerLockService nodeA;
+    private SchedulerLockService nodeB;
+
+    /**
+     * 같은 DB를 사용하는 두 노드를 흉내 냅니다. 잠금은 테스트 트랜잭션 밖에서 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않습니다.
+     */
+    @BeforeEach
+    void setUp() {
+        final SchedulerLockProperties properties = new SchedulerLockProperties();
+        properties.setLease(LEASE);
+        nodeA = new SchedulerLockService(schedulerLockRepository, transactionTemplate, properties);
+        nodeB = new SchedulerLockService(schedulerLockRepository, transactionTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("한 노드가 작업을 실행하는 동안 다른 노드는 실행하지 않고, 작업이 끝나면 실행할 수 있다.")
+    void runsOnOneNodeAtATime() {
+        final Optional<Optional<String>> fromNodeB = nodeA.callExclusively("lock-test-exclusive",
+            () -> nodeB.callExclusively("lock-test-exclusive", () -> "B"));
+
+        assertThat(fromNodeB).contains(Optional.empty());
+        assertThat(nodeB.callExclusively("lock-test-exclusive", () -> "B")).contains("B");
+    }
+
+    @Test
+    @DisplayName("처음 실행하는 작업이면 잠금 행을 만들고, 작업이 끝나면 잠금을 해제한다.")
+    void createsLockRowOnFirstRun() {
+        assertThat(nodeA.callExclusively("lock-test-first-run", () -> 1)).contains(1);
+
+        final SchedulerLock lock = schedulerLockRepository.findById("lock-test-first-run")
+            .orElseThrow();
+        assertThat(lock.getLockedBy()).isEqualTo(nodeA.getNodeId());
+        assertThat(lock.getLockedUntil()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("잠금을 가진 노드가 종료되면 lease가 지난 뒤 다른 노드가 작업을 이어받는다.")
+    void failsOverAfterLease() throws InterruptedException {
+        // Given: 잠금을 가진 채 종료된 노드
+        transactionTemplate.executeWithoutResult(status -> schedulerLockRepository.insert(
+            "lock-test-failover", "crashed-node", LEASE.toMillis()));
+
+        // When, Then
+        assertThat(nodeB.callExclusively("lock-test-failover", () -> "B")).isEmpty();
+        Thread.sleep(LEASE.toMillis() + 100);
+        assertThat(nodeB.callExclusively("lock-test-failover", () -> "B")).contains("B");
+    }
+
+    @Test
+    @DisplayName("작업이 잠금을 연장하면 lease가 지나도 다른 노드가 실행하지 않는다.")
+    void extendKeepsLockPastLease() {
+        final Optional<Optional<String>> fromNodeB = nodeA.callExclusively("lock-test-extend",
+            () -> {
+                sleep(LEASE.toMillis() / 2);
+                assertThat(nodeA.extend("lock-test-extend")).isTrue();
+                sleep(LEASE.toMillis() * 2 / 3);
+                return nodeB.callExclusively("lock-test-extend", () -> "B");
+            });
+
+        assertThat(fromNodeB).contains(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("잠금이 만료되어 다른 노드가 가져갔으면 연장하지 못한다.")
+    void extendFailsAfterLockIsTaken() throws InterruptedException {
+        // Given: nodeA의 잠금이 만료되고 nodeB가 실행 중입니다.
+        transactionTemplate.executeWithoutResult(status -> schedulerLockRepository.insert(
+            "lock-test-extend-lost", nodeA.getNodeId(), LEASE.toMillis()));
+        Thread.sleep(LEASE.toMillis() + 100);
+
+        // When
+        final Optional<Boolean> extendedByA = nodeB.callExclusively("lock-test-extend-lost",
+            () -> nodeA.extend("lock-test-extend-lost"));
+
+        // Then
+        assertThat(extendedByA).contains(false);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package dev.hodory.musinsa.integrations.product.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.hodory.musinsa.brand.domain.dto.BrandDTO;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.version.CatalogVersionHeader;
+import dev.hodory.musinsa.integrations.IntegrationControllerTestBase;
+import dev.hodory.musinsa.product.domain.dto.ProductDTO.CreateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카탈로그 스냅샷을 켜고 조회 API가 스냅샷에서 응답하는지, 변경 API가 반환한 카탈로그 버전으로 변경을 읽을 수 있는지 검증합니다.
+ * 스냅샷과 카탈로그 버전은 커밋된 변경만 반영하므로 테스트 트랜잭션을 사용하지 않고, 변경한 데이터는 테스트가 끝나면 되돌리며,
+ * 다른 테스트의 데이터와 섞이지 않도록 별도의 DB를 사용합니다.
+ */
+@DisplayName("카탈로그 스냅샷을 사용하는 조회 API의 Integration 테스트를 실행 합니다.")
+@TestPropertySource(properties = {
+    "musinsa.catalog-snapshot.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:catalog_snapshot_test"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogSnapshotControllerTest extends IntegrationControllerTestBase {
+
+    private Integer addedProductId;
+    private String renamedBrandName;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (addedProductId != null) {
+            mockMvc.perform(MockMvcRequestBuilders.delete("/api/v1/products/" + addedProductId))
+                    .andExpect(status().isOk());
+        }
+        if (renamedBrandName != null) {
+            renameBrand(renamedBrandName);
+        }
+    }
+
+    private void renameBrand(String name) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/brands/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                BrandDTO.Request.builder().name(name).build())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가를 스냅샷에서 조회하고 카탈로그 버전을 응답 헤더로 반환합니다.")
+    void getLowestPricePerCategory_success() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-price"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CatalogVersionHeader.NAME))
+                .andExpect(jsonPath("$.products", hasSize(8)))
+                .andExpect(jsonPath("$.total_price").value("34,100"));
+    }
+
+    @Test
+    @DisplayName("최저가 브랜드를 스냅샷에서 조회하고 카탈로그 버전을 응답 헤더로 반환합니다.")
+    void getLowestPriceBrand_success() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-brand"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CatalogVersionHeader.NAME))
+                .andExpect(jsonPath("$.data.brand_name").value("D"))
+                .andExpect(jsonPath("$.data.total_price").value("36,100"));
+    }
+
+    @Test
+    @DisplayName("총액 순위를 스냅샷에서 조회하고 카탈로그 버전을 응답 헤더로 반환합니다.")
+    void getLowestPriceBrandRanking_success() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-brand/ranking")
+                        .param("n", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CatalogVersionHeader.NAME))
+                .andExpect(jsonPath("$.data[0].brand_name").value("D"))
+                .andExpect(jsonPath("$.data[1].brand_name").value("C"));
+    }
+
+    @Test
+    @DisplayName("카테고리의 최저가, 최고가 브랜드를 스냅샷에서 조회하고 카탈로그 버전을 응답 헤더로 반환합니다.")
+    void getLowestAndHighestProduct_success() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/category")
+                        .param("title", "상의"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CatalogVersionHeader.NAME))
+                .andExpect(jsonPath("$.lowest[0].brand").value("C"))
+                .andExpect(jsonPath("$.lowest[0].price").value("10,000"))
+                .andExpect(jsonPath("$.highest[0].brand").value("I"))
+                .andExpect(jsonPath("$.highest[0].price").value("11,400"));
+    }
+
+    @Test
+    @DisplayName("대시보드를 스냅샷에서 조회하고 카탈로그 버전을 응답 헤더로 반환합니다.")
+    void getDashboard_success() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/dashboard"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CatalogVersionHeader.NAME))
+                .andExpect(jsonPath("$.data.lowest_price.total_price").value("34,100"))
+                .andExpect(jsonPath("$.data.lowest_brand.brand_name").value("D"))
+                .andExpect(jsonPath("$.data.categories", hasSize(8)));
+    }
+
+    @Test
+    @DisplayName("에러 응답에는 카탈로그 버전 헤더를 포함하지 않습니다.")
+    void getLowestAndHighestProduct_failure_withoutCatalogVersion() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/category")
+                        .param("title", "없는 카테고리"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(CatalogVersionHeader.NAME));
+    }
+
+    @Test
+    @DisplayName("변경 API가 반환한 카탈로그 버전을 보내면 스냅샷이 그 버전에 도달한 뒤 변경이 반영된 결과를 조회합니다.")
+    void getDashboard_success_readYourWrites() throws Exception {
+        CreateRequest createRequest = CreateRequest.builder()
+                .category(CategoryInfo.TOP.name())
+                .brandId(1L)
+                .price(100L)
+                .build();
+        MvcResult created = mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CatalogVersionHeader.NAME))
+                .andReturn();
+        addedProductId = JsonPath.read(created.getResponse().getContentAsString(), "$.data.id");
+        String version = created.getResponse().getHeader(CatalogVersionHeader.NAME);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/dashboard")
+                        .header(CatalogVersionHeader.MIN_VERSION_NAME, version))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(CatalogVersionHeader.NAME, version))
+                .andExpect(jsonPath("$.data.lowest_price.products[0].category").value("상의"))
+                .andExpect(jsonPath("$.data.lowest_price.products[0].brand").value("A"))
+                .andExpect(jsonPath("$.data.lowest_price.products[0].price").value("100"));
+    }
+
+    @Test
+    @DisplayName("브랜드를 업데이트하면 커밋된 변경의 카탈로그 버전을 응답 헤더로 반환합니다.")
+    void updateBrand_success_returnsCatalogVersion() throws Exception {
+        renamedBrandName = "A";
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/brands/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                BrandDTO.Request.builder().name("UpdatedBrandName").build())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CatalogVersionHeader.NAME));
+    }
+}
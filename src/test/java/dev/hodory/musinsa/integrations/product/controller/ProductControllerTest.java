@@ -1,14 +1,23 @@
 package dev.hodory.musinsa.integrations.product.controller;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
 import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.version.CatalogVersionHeader;
 import dev.hodory.musinsa.integrations.IntegrationControllerTestBase;
 import dev.hodory.musinsa.product.domain.dto.ProductDTO;
 import dev.hodory.musinsa.product.domain.dto.ProductDTO.CreateRequest;
+import java.util.Arrays;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -354,6 +363,283 @@ class ProductControllerTest extends IntegrationControllerTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("상품 목록 조회에 대한 테스트를 실행 합니다.")
+    class GetProductsTest {
+
+        @Test
+        @DisplayName("카테고리 상품을 가격, ID 순서로 커서 이후부터 조회합니다.")
+        void getProducts_success_withCursor() throws Exception {
+            // given
+            var firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products")
+                            .param("category", CategoryInfo.TOP.name())
+                            .param("size", "3"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.products", hasSize(3)))
+                    .andExpect(jsonPath("$.data.products[0].brand.name").value("C"))
+                    .andExpect(jsonPath("$.data.products[1].brand.name").value("D"))
+                    .andExpect(jsonPath("$.data.products[2].brand.name").value("B"))
+                    .andExpect(jsonPath("$.data.has_next").value(true))
+                    .andReturn();
+            String nextCursor = JsonPath.read(firstPage.getResponse().getContentAsString(),
+                    "$.data.next_cursor");
+
+            // when
+            var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products")
+                            .param("category", CategoryInfo.TOP.name())
+                            .param("after", nextCursor)
+                            .param("size", "3"))
+                    .andDo(print());
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.products", hasSize(3)))
+                    .andExpect(jsonPath("$.data.products[0].brand.name").value("G"))
+                    .andExpect(jsonPath("$.data.products[0].price").value(10500))
+                    .andExpect(jsonPath("$.data.products[1].brand.name").value("E"))
+                    .andExpect(jsonPath("$.data.products[2].brand.name").value("H"));
+        }
+
+        @Test
+        @DisplayName("브랜드 상품의 마지막 페이지는 next_cursor가 없습니다.")
+        void getProducts_success_lastPage() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products")
+                            .param("brand_id", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.products", hasSize(8)))
+                    .andExpect(jsonPath("$.data.has_next").value(false))
+                    .andExpect(jsonPath("$.data.next_cursor").value(nullValue()));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회 요청시 400 에러를 반환 합니다.")
+        void getProducts_failure_whenCursorIsInvalid() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products")
+                            .param("after", "invalid-cursor"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 최대값을 넘으면 400 에러를 반환 합니다.")
+        void getProducts_failure_whenSizeExceedsMax() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products")
+                            .param("size", "101"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리별 최저가 상품 K개 조회에 대한 테스트를 실행 합니다.")
+    class GetCheapestProductsPerCategoryTest {
+
+        @Test
+        @DisplayName("카테고리마다 가격이 낮은 순서로 K개의 상품을 조회합니다.")
+        void getCheapestProductsPerCategory_success() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/cheapest")
+                            .param("k", "3"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(CategoryInfo.values().length)))
+                    .andExpect(jsonPath("$.data[0].category").value("상의"))
+                    .andExpect(jsonPath("$.data[0].products", hasSize(3)))
+                    .andExpect(jsonPath("$.data[0].products[0].brand").value("C"))
+                    .andExpect(jsonPath("$.data[0].products[0].price").value("10,000"))
+                    .andExpect(jsonPath("$.data[0].products[1].brand").value("D"))
+                    .andExpect(jsonPath("$.data[0].products[2].brand").value("B"));
+        }
+
+        @Test
+        @DisplayName("K가 최대값을 넘으면 400 에러를 반환 합니다.")
+        void getCheapestProductsPerCategory_failure_whenKExceedsMax() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/cheapest")
+                            .param("k", "101"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("선택한 카테고리 조합의 최저가 브랜드 조회에 대한 테스트를 실행 합니다.")
+    class GetLowestPriceBrandForBasketTest {
+
+        @Test
+        @DisplayName("선택한 카테고리를 모두 가진 브랜드 중 합계가 가장 낮은 브랜드를 조회합니다.")
+        void getLowestPriceBrandForBasket_success() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-brand/basket")
+                            .param("categories", "SNEAKERS", "TOP", "PANTS"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.brand_name").value("C"))
+                    .andExpect(jsonPath("$.data.category_products", hasSize(3)))
+                    .andExpect(jsonPath("$.data.category_products[0].category").value("상의"))
+                    .andExpect(jsonPath("$.data.category_products[1].category").value("바지"))
+                    .andExpect(jsonPath("$.data.category_products[2].category").value("스니커즈"))
+                    .andExpect(jsonPath("$.data.total_price").value("22,500"));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 카테고리 코드로 요청시 400 에러를 반환 합니다.")
+        void getLowestPriceBrandForBasket_failure_whenCategoryIsInvalid() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-brand/basket")
+                            .param("categories", "TOP", "UNKNOWN"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("총액 기준 브랜드 순위 조회에 대한 테스트를 실행 합니다.")
+    class GetLowestPriceBrandRankingTest {
+
+        @Test
+        @DisplayName("모든 카테고리 상품을 가진 브랜드를 총액 오름차순으로 N개 조회합니다.")
+        void getLowestPriceBrandRanking_success() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-brand/ranking")
+                            .param("n", "3"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(3)))
+                    .andExpect(jsonPath("$.data[0].brand_name").value("D"))
+                    .andExpect(jsonPath("$.data[0].total_price").value("36,100"))
+                    .andExpect(jsonPath("$.data[0].category_products", hasSize(8)))
+                    .andExpect(jsonPath("$.data[1].brand_name").value("C"))
+                    .andExpect(jsonPath("$.data[1].total_price").value("37,100"))
+                    .andExpect(jsonPath("$.data[2].brand_name").value("G"))
+                    .andExpect(jsonPath("$.data[2].total_price").value("37,200"));
+        }
+
+        @Test
+        @DisplayName("N이 최대값을 넘으면 400 에러를 반환 합니다.")
+        void getLowestPriceBrandRanking_failure_whenNExceedsMax() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-brand/ranking")
+                            .param("n", "101"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("최대 브랜드 수 제한이 있는 최저가 조합 조회에 대한 테스트를 실행 합니다.")
+    class GetOptimalBasketTest {
+
+        @Test
+        @DisplayName("모든 카테고리를 최대 2개 브랜드에서 구매할 때의 최저 총액을 조회합니다.")
+        void getOptimalBasket_success_withTwoBrands() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/basket/optimal")
+                            .param("categories", Arrays.stream(CategoryInfo.values())
+                                    .map(CategoryInfo::name)
+                                    .toArray(String[]::new))
+                            .param("max_brands", "2"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.brands", hasSize(lessThanOrEqualTo(2))))
+                    .andExpect(jsonPath("$.data.total_price").value("34,500"));
+        }
+
+        @Test
+        @DisplayName("브랜드 수 제한이 카테고리 수와 같으면 카테고리별 최저가 총액과 같습니다.")
+        void getOptimalBasket_success_withoutBrandLimit() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/basket/optimal")
+                            .param("categories", Arrays.stream(CategoryInfo.values())
+                                    .map(CategoryInfo::name)
+                                    .toArray(String[]::new))
+                            .param("max_brands", String.valueOf(CategoryInfo.values().length)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.total_price").value("34,100"));
+        }
+
+        @Test
+        @DisplayName("최대 브랜드 수가 0이면 400 에러를 반환 합니다.")
+        void getOptimalBasket_failure_whenMaxBrandsIsZero() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/basket/optimal")
+                            .param("categories", "TOP")
+                            .param("max_brands", "0"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("가격 분위수 조회에 대한 테스트를 실행 합니다.")
+    class GetQuantilesTest {
+
+        @Test
+        @DisplayName("카테고리의 가격 중앙값을 상대 오차 이내로 조회합니다.")
+        void getCategoryQuantiles_success() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/category/quantiles")
+                            .param("title", "상의"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.name").value("상의"))
+                    .andExpect(jsonPath("$.data.count").value(9))
+                    .andExpect(jsonPath("$.data.p50",
+                            allOf(greaterThanOrEqualTo(10593), lessThanOrEqualTo(10807))));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 브랜드의 분위수 조회시 404 에러를 반환 합니다.")
+        void getBrandQuantiles_failure_whenBrandNotExists() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/brand/quantiles")
+                            .param("brand_id", "999"))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("대시보드 조회 API를 테스트 합니다.")
+    class GetDashboardTest {
+
+        @Test
+        @DisplayName("카테고리별 최저가, 최저가 브랜드, 카테고리별 최저가/최고가 브랜드를 한 번에 조회합니다.")
+        void getDashboard_success() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/dashboard"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.lowest_price.products", hasSize(8)))
+                    .andExpect(jsonPath("$.data.lowest_price.products[3].category").value("스니커즈"))
+                    .andExpect(jsonPath("$.data.lowest_price.products[3].brand").value("G"))
+                    .andExpect(jsonPath("$.data.lowest_price.total_price").value("34,100"))
+                    .andExpect(jsonPath("$.data.lowest_brand.brand_name").value("D"))
+                    .andExpect(jsonPath("$.data.lowest_brand.total_price").value("36,100"))
+                    .andExpect(jsonPath("$.data.categories", hasSize(8)))
+                    .andExpect(jsonPath("$.data.categories[0].category").value("상의"))
+                    .andExpect(jsonPath("$.data.categories[0].lowest[0].brand").value("C"))
+                    .andExpect(jsonPath("$.data.categories[0].lowest[0].price").value("10,000"))
+                    .andExpect(jsonPath("$.data.categories[0].highest[0].brand").value("I"))
+                    .andExpect(jsonPath("$.data.categories[0].highest[0].price").value("11,400"))
+                    .andExpect(jsonPath("$.data.categories[3].lowest", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("카탈로그 버전이 숫자가 아니면 400 에러를 반환 합니다.")
+        void getDashboard_failure_whenMinVersionIsInvalid() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/dashboard")
+                            .header(CatalogVersionHeader.MIN_VERSION_NAME, "latest"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("최저가 변경 스트림에 대한 테스트를 실행 합니다.")
+    class StreamLowestPriceTest {
+
+        @Test
+        @DisplayName("스트림을 구독하면 비동기 SSE 응답이 시작됩니다.")
+        void streamLowestPrice_success() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/products/lowest-price/stream")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+        }
+    }
+
     @Nested
     @DisplayName("단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격에 판매하는 브랜드와 카테고리의 상품가격, 총액을 조회하는 API를 테스트 합니다.")
     class GetLowestPriceBrandTest {
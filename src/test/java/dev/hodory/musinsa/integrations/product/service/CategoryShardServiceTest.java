@@ -0,0 +1,127 @@
+package dev.hodory.musinsa.integrations.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.hodory.musinsa.brand.domain.dto.BrandDTO;
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.brand.event.BrandRenamed;
+import dev.hodory.musinsa.brand.service.BrandService;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.integrations.IntegrationServiceTestBase;
+import dev.hodory.musinsa.product.domain.basket.BasketRanking;
+import dev.hodory.musinsa.product.domain.basket.BrandCoverage;
+import dev.hodory.musinsa.product.domain.dto.ProductDTO;
+import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import dev.hodory.musinsa.product.service.ProductService;
+import dev.hodory.musinsa.product.shard.CategoryShardService;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("카테고리 샤드의 집계 결과를 검증 합니다.")
+@TestPropertySource(properties = {
+    "musinsa.category-shards.enabled=true",
+    "musinsa.category-shards.count=3"
+})
+class CategoryShardServiceTest extends IntegrationServiceTestBase {
+
+    @Autowired
+    private CategoryShardService categoryShardService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandService brandService;
+
+    /**
+     * 샤드는 테스트 트랜잭션 밖에 있으므로 테스트마다 원본 DB 기준으로 다시 채웁니다.
+     */
+    @BeforeEach
+    void setUp() {
+        categoryShardService.load(0L);
+    }
+
+    @Test
+    @DisplayName("최저가가 같은 상품이 있어도 샤드별 집계를 합친 결과가 단일 DB 조회 결과와 같다.")
+    void aggregateMatchesSingleDatabase() {
+        // Given: 상의 최저가(C, 10000)와 같은 가격의 상품을 브랜드 ID가 더 작은 A에 추가한다
+        productService.addProduct(ProductDTO.builder()
+            .category(CategoryInfo.TOP.name())
+            .brandId(1L)
+            .price(10000L)
+            .build());
+        categoryShardService.load(0L);
+        final int allCategories = CategoryInfo.maskOf(EnumSet.allOf(CategoryInfo.class));
+        final List<LowestPriceProductDTO> expectedLowest = productRepository
+            .findLowestPricePerCategory();
+        final BrandProductDTO expectedBrand = BrandProductDTO.of(BasketRanking.top(
+                BrandCoverage.of(productRepository.findLowestPriceGroupByBrandIdAndCategoryId()),
+                allCategories, 1)
+            .get(0).products(allCategories));
+
+        // When
+        final CatalogSnapshot actual = categoryShardService.aggregate().orElseThrow();
+
+        // Then
+        assertThat(actual.getLowestPerCategory())
+            .extracting(ProductInfo::getCategoryName, ProductInfo::getBrandName,
+                ProductInfo::getPrice)
+            .containsExactlyElementsOf(expectedLowest.stream()
+                .map(lowest -> tuple(lowest.getCategory(), lowest.getBrand(), lowest.getPrice()))
+                .toList());
+        assertThat(expectedLowest.get(0).getBrand()).isEqualTo("A");
+        assertThat(BrandProductDTO.of(BasketRanking.top(actual.getCoverages(), allCategories, 1)
+            .get(0).products(allCategories)))
+            .usingRecursiveComparison()
+            .isEqualTo(expectedBrand);
+    }
+
+    @Test
+    @DisplayName("상품 이벤트를 받으면 해당 카테고리를 다시 읽어 집계에 반영하고 버전을 올린다.")
+    void onEventsReloadsAffectedCategory() {
+        productService.addProduct(ProductDTO.builder()
+            .category(CategoryInfo.TOP.name())
+            .brandId(1L)
+            .price(100L)
+            .build());
+
+        categoryShardService.onEvents(
+            List.of(new ProductCreated(null, 1L, CategoryInfo.TOP, 100L)), 99L);
+
+        final CatalogSnapshot actual = categoryShardService.aggregate().orElseThrow();
+        assertThat(actual.getVersion()).isEqualTo(99L);
+        assertThat(actual.getLowestPerCategory().get(0))
+            .extracting(ProductInfo::getCategoryName, ProductInfo::getBrandName,
+                ProductInfo::getPrice)
+            .containsExactly(CategoryInfo.TOP.getTitle(), "A", 100L);
+    }
+
+    @Test
+    @DisplayName("브랜드 이벤트를 받으면 모든 샤드를 함께 교체하여 모든 카테고리에 반영한다.")
+    void onBrandEventReplacesAllShards() {
+        brandService.updateBrand(1L, BrandDTO.Request.builder().name("AA").build());
+
+        categoryShardService.onEvents(List.of(new BrandRenamed(1L, "A", "AA")), 100L);
+
+        final CatalogSnapshot actual = categoryShardService.aggregate().orElseThrow();
+        assertThat(actual.getVersion()).isEqualTo(100L);
+        assertThat(actual.getCoverages())
+            .filteredOn(coverage -> coverage.getBrandId().equals(1L))
+            .singleElement()
+            .extracting(BrandCoverage::getBrandName)
+            .isEqualTo("AA");
+    }
+}
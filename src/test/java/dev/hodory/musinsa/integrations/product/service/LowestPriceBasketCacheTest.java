@@ -0,0 +1,103 @@
+package dev.hodory.musinsa.integrations.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.cache.CacheVersionPoller;
+import dev.hodory.musinsa.common.cache.CacheVersionService;
+import dev.hodory.musinsa.integrations.IntegrationServiceTestBase;
+import dev.hodory.musinsa.product.domain.dto.ProductDTO;
+import dev.hodory.musinsa.product.service.ProductService;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 캐시 삭제는 커밋된 뒤에 실행되므로 테스트 트랜잭션을 사용하지 않고, 변경한 데이터는 테스트가 끝나면 되돌립니다.
+ */
+@DisplayName("카테고리 조합별 최저가 브랜드 캐시를 검증 합니다.")
+@TestPropertySource(properties = "musinsa.cache.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LowestPriceBasketCacheTest extends IntegrationServiceTestBase {
+
+    private static final Set<CategoryInfo> TOP = Set.of(CategoryInfo.TOP);
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheVersionService cacheVersionService;
+
+    @Autowired
+    private CacheVersionPoller cacheVersionPoller;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long addedProductId;
+
+    @AfterEach
+    void tearDown() {
+        if (addedProductId != null) {
+            productService.deleteProduct(addedProductId);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 카테고리 조합을 다시 조회하면 다시 계산하지 않고 캐시된 결과를 반환한다.")
+    void returnsCachedResult() {
+        final BrandProductDTO first = productService.getLowestPriceBrand(TOP);
+
+        assertThat(productService.getLowestPriceBrand(TOP)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("상품이 등록되면 캐시를 삭제하여 다음 조회에 등록된 상품이 반영된다.")
+    void evictsOnWrite() {
+        final BrandProductDTO beforeWrite = productService.getLowestPriceBrand(TOP);
+
+        addedProductId = productService.addProduct(ProductDTO.builder()
+            .category(CategoryInfo.TOP.name())
+            .brandId(1L)
+            .price(1L)
+            .build()).getId();
+
+        final BrandProductDTO afterWrite = productService.getLowestPriceBrand(TOP);
+        assertThat(afterWrite).isNotSameAs(beforeWrite);
+        assertThat(afterWrite.getBrandName()).isEqualTo("A");
+        assertThat(afterWrite.getTotalPrice()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 상품을 등록하면 캐시 버전을 확인할 때 해당 카테고리의 조합을 삭제한다.")
+    void evictsOnOtherNodeWrite() {
+        // Given
+        cacheVersionPoller.poll();
+        productService.getLowestPriceBrand(TOP);
+
+        // When: 로컬 캐시를 삭제하지 않는 다른 노드의 쓰기를 흉내 냅니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(
+                "insert into product (brand_id, category_id, price) values (1, 1, 1)");
+            cacheVersionService.bump(TOP);
+        });
+        addedProductId = jdbcTemplate.queryForObject(
+            "select max(id) from product", Long.class);
+
+        cacheVersionPoller.poll();
+
+        // Then
+        assertThat(productService.getLowestPriceBrand(TOP).getTotalPrice()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.hodory.musinsa.integrations.product.service;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.integrations.IntegrationServiceTestBase;
+import dev.hodory.musinsa.integrations.support.StatementCounter;
+import dev.hodory.musinsa.product.domain.dto.ProductDTO;
+import dev.hodory.musinsa.product.service.ProductService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("ProductService의 메서드별 실행 쿼리 수를 검증 합니다.")
+class ProductServiceStatementCountTest extends IntegrationServiceTestBase {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+    }
+
+    /**
+     * 테스트 트랜잭션은 롤백되므로, 커밋 시점에 실행될 UPDATE, DELETE도 세도록 동작 안에서 flush 합니다.
+     */
+    private Runnable flushed(Runnable action) {
+        return () -> {
+            action.run();
+            entityManager.flush();
+        };
+    }
+
+    @Test
+    @DisplayName("상품 등록시 카테고리 조회, 브랜드 조회, 상품 저장, outbox 저장, 캐시 버전 갱신 쿼리만 실행된다.")
+    void addProduct() {
+        final ProductDTO dto = ProductDTO.builder()
+            .category(CategoryInfo.TOP.name())
+            .brandId(1L)
+            .price(1000L)
+            .build();
+
+        statementCounter.assertStatementCount(5,
+            flushed(() -> productService.addProduct(dto)));
+    }
+
+    @Test
+    @DisplayName("가격만 수정하면 브랜드와 카테고리를 함께 조회하는 쿼리, 상품 수정, outbox 저장, 캐시 버전 갱신 쿼리만 실행된다.")
+    void updateProductPrice() {
+        final ProductDTO dto = ProductDTO.builder()
+            .price(1000L)
+            .build();
+
+        statementCounter.assertStatementCount(4,
+            flushed(() -> productService.updateProduct(1L, dto)));
+    }
+
+    @Test
+    @DisplayName("상품 삭제시 삭제 대상 조회, 상품 삭제, outbox 저장, 캐시 버전 갱신 쿼리만 실행된다.")
+    void deleteProduct() {
+        statementCounter.assertStatementCount(4,
+            flushed(() -> productService.deleteProduct(1L)));
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가 조회시 쿼리 1개만 실행된다.")
+    void getLowestPricePerCategory() {
+        statementCounter.assertStatementCount(1, productService::getLowestPricePerCategory);
+    }
+
+    @Test
+    @DisplayName("최저가 브랜드 조회시 쿼리 1개만 실행된다.")
+    void getLowestPriceBrand() {
+        statementCounter.assertStatementCount(1, productService::getLowestPriceBrand);
+    }
+
+    @Test
+    @DisplayName("카테고리 이름으로 최저, 최고가 조회시 카테고리, 최저가, 최고가 쿼리 3개만 실행된다.")
+    void getLowestAndHighestPriceBrandByCategoryName() {
+        statementCounter.assertStatementCount(3,
+            () -> productService.getLowestAndHighestPriceBrandByCategoryName(
+                CategoryInfo.TOP.getTitle()));
+    }
+}
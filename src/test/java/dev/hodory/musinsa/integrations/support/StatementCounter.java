@@ -0,0 +1,45 @@
+package dev.hodory.musinsa.integrations.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate 통계를 이용해 특정 동작에서 실행된 JDBC Statement 수를 검증합니다.
+ * <p>
+ * hibernate.generate_statistics=true 설정이 필요합니다. (application-test.yml)
+ */
+public class StatementCounter {
+
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 동작을 실행하는 동안 준비된 Statement 수를 반환합니다.
+     *
+     * @param action 실행할 동작
+     * @return Statement 수
+     */
+    public long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 동작을 실행하는 동안 정확히 expected 개의 Statement가 실행되었는지 검증합니다.
+     *
+     * @param expected 예상 Statement 수
+     * @param action   실행할 동작
+     */
+    public void assertStatementCount(long expected, Runnable action) {
+        assertThat(count(action))
+            .as("실행된 Statement 수")
+            .isEqualTo(expected);
+    }
+}
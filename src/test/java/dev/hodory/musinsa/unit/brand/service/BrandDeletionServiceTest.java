@@ -0,0 +1,127 @@
+package dev.hodory.musinsa.unit.brand.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hodory.musinsa.brand.domain.dto.BrandDeletionJobDTO;
+import dev.hodory.musinsa.brand.domain.entity.Brand;
+import dev.hodory.musinsa.brand.domain.job.BrandDeletionJob.Status;
+import dev.hodory.musinsa.brand.event.BrandDeleted;
+import dev.hodory.musinsa.brand.event.BrandProductsDeleted;
+import dev.hodory.musinsa.brand.repository.BrandRepository;
+import dev.hodory.musinsa.brand.service.BrandDeletionProperties;
+import dev.hodory.musinsa.brand.service.BrandDeletionService;
+import dev.hodory.musinsa.common.cache.CacheVersionService;
+import dev.hodory.musinsa.common.event.DomainEventPublisher;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("BrandDeletionService Unit 테스트")
+class BrandDeletionServiceTest {
+
+    private BrandRepository brandRepository;
+    private ProductRepository productRepository;
+    private DomainEventPublisher domainEventPublisher;
+    private BrandDeletionService brandDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        brandRepository = mock(BrandRepository.class);
+        productRepository = mock(ProductRepository.class);
+        domainEventPublisher = mock(DomainEventPublisher.class);
+
+        final BrandDeletionProperties properties = new BrandDeletionProperties();
+        properties.setChunkSize(2);
+
+        brandDeletionService = new BrandDeletionService(brandRepository, productRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new SyncTaskExecutor(), new ConcurrentMapCacheManager(),
+            domainEventPublisher, mock(CacheVersionService.class), properties);
+    }
+
+    @Test
+    @DisplayName("이전 chunk의 마지막 상품 ID 다음부터 chunk 크기보다 적은 상품이 조회될 때까지 반복해서 삭제한다")
+    void shouldDeleteProductsInChunks() {
+        // Given
+        when(productRepository.findIdsByBrandId(1L, 0L, 2)).thenReturn(List.of(1L, 2L));
+        when(productRepository.findIdsByBrandId(1L, 2L, 2)).thenReturn(List.of(3L, 4L));
+        when(productRepository.findIdsByBrandId(1L, 4L, 2)).thenReturn(List.of(5L));
+
+        // When
+        long deleted = brandDeletionService.deleteProducts(1L);
+
+        // Then
+        assertThat(deleted).isEqualTo(5);
+        verify(productRepository, times(3)).deleteAllByIdIn(anyList());
+        verify(domainEventPublisher, times(3)).publish(any(BrandProductsDeleted.class));
+    }
+
+    @Test
+    @DisplayName("비동기 삭제 작업이 완료되면 삭제된 상품 수와 완료 상태를 조회할 수 있다")
+    void shouldCompleteAsyncDeletionJob() {
+        // Given
+        final Brand brand = Brand.builder().id(1L).name("A").build();
+        when(brandRepository.existsById(1L)).thenReturn(true);
+        when(brandRepository.findById(1L)).thenReturn(Optional.of(brand));
+        when(productRepository.findIdsByBrandId(1L, 0L, 2))
+            .thenReturn(List.of(1L, 2L), List.of());
+        when(productRepository.findIdsByBrandId(1L, 2L, 2)).thenReturn(List.of(3L));
+
+        // When
+        BrandDeletionJobDTO submitted = brandDeletionService.submit(1L);
+        BrandDeletionJobDTO result = brandDeletionService.getJob(submitted.getJobId());
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(Status.COMPLETED.name());
+        assertThat(result.getDeletedProducts()).isEqualTo(3);
+        verify(brandRepository).delete(brand);
+        verify(domainEventPublisher).publish(new BrandDeleted(1L, "A"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 브랜드의 삭제 작업을 요청하면 EntityNotFoundException을 던진다")
+    void shouldThrowEntityNotFoundExceptionWhenBrandNotExists() {
+        // Given
+        when(brandRepository.existsById(999L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> brandDeletionService.submit(999L))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("같은 브랜드의 삭제 작업이 진행 중이면 새로 실행하지 않고 진행 중인 작업을 반환한다")
+    void shouldReturnActiveJobForSameBrand() {
+        // Given
+        final List<Runnable> submitted = new ArrayList<>();
+        final BrandDeletionService pendingService = new BrandDeletionService(brandRepository,
+            productRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            submitted::add, new ConcurrentMapCacheManager(), domainEventPublisher,
+            mock(CacheVersionService.class), new BrandDeletionProperties());
+        when(brandRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        final BrandDeletionJobDTO first = pendingService.submit(1L);
+        final BrandDeletionJobDTO second = pendingService.submit(1L);
+
+        // Then
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        assertThat(submitted).hasSize(1);
+    }
+}
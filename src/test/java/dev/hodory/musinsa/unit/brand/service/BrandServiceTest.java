@@ -3,13 +3,17 @@ package dev.hodory.musinsa.unit.brand.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.hodory.musinsa.brand.domain.dto.BrandDTO;
 import dev.hodory.musinsa.brand.domain.dto.BrandDTO.Request;
 import dev.hodory.musinsa.brand.domain.entity.Brand;
 import dev.hodory.musinsa.brand.repository.BrandRepository;
+import dev.hodory.musinsa.brand.service.BrandDeletionService;
 import dev.hodory.musinsa.brand.service.BrandService;
+import dev.hodory.musinsa.common.cache.CacheVersionService;
+import dev.hodory.musinsa.common.event.DomainEventPublisher;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +33,15 @@ class BrandServiceTest {
     @Mock
     private BrandRepository brandRepository;
 
+    @Mock
+    private BrandDeletionService brandDeletionService;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private CacheVersionService cacheVersionService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -201,6 +214,7 @@ class BrandServiceTest {
             // Then
             assertThat(result.getId()).isEqualTo(brandId);
             assertThat(result.getName()).isEqualTo(brand.getName());
+            verify(brandDeletionService).deleteInChunks(brandId);
         }
 
         @Test
@@ -0,0 +1,70 @@
+package dev.hodory.musinsa.unit.category.domain.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.category.domain.stats.CategoryPriceStats;
+import dev.hodory.musinsa.category.domain.stats.CategoryPriceStats.Snapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CategoryPriceStats Unit 테스트")
+class CategoryPriceStatsTest {
+
+    @Test
+    @DisplayName("상품을 추가하면 개수, 합계, 최저가, 최고가, 히스토그램이 갱신된다")
+    void shouldUpdateStatsWhenAdding() {
+        // Given
+        CategoryPriceStats stats = new CategoryPriceStats();
+
+        // When
+        stats.add(500L, 1);
+        stats.add(1500L, 2);
+        stats.add(150_000L, 1);
+
+        // Then
+        Snapshot snapshot = stats.snapshot();
+        assertThat(snapshot.count()).isEqualTo(4);
+        assertThat(snapshot.sum()).isEqualTo(153_500L);
+        assertThat(snapshot.min()).isEqualTo(500L);
+        assertThat(snapshot.max()).isEqualTo(150_000L);
+        assertThat(snapshot.average()).isEqualTo(38_375.0);
+        assertThat(snapshot.histogram()).containsExactly(1, 2, 0, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("최저가 상품이 모두 삭제되면 다음 가격이 최저가가 된다")
+    void shouldFindNextMinimumWhenRemovingLowestPrice() {
+        // Given
+        CategoryPriceStats stats = new CategoryPriceStats();
+        stats.add(1000L, 2);
+        stats.add(3000L, 1);
+
+        // When
+        stats.remove(1000L, 1);
+        Long minAfterFirstRemove = stats.snapshot().min();
+        stats.remove(1000L, 1);
+
+        // Then
+        assertThat(minAfterFirstRemove).isEqualTo(1000L);
+        assertThat(stats.snapshot().min()).isEqualTo(3000L);
+        assertThat(stats.snapshot().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든 상품이 삭제되면 최저가, 최고가, 평균은 null 이다")
+    void shouldReturnNullWhenEmpty() {
+        // Given
+        CategoryPriceStats stats = new CategoryPriceStats();
+        stats.add(1000L, 1);
+
+        // When
+        stats.remove(1000L, 1);
+
+        // Then
+        Snapshot snapshot = stats.snapshot();
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.min()).isNull();
+        assertThat(snapshot.max()).isNull();
+        assertThat(snapshot.average()).isNull();
+    }
+}
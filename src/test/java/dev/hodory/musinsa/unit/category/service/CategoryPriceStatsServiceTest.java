@@ -0,0 +1,79 @@
+package dev.hodory.musinsa.unit.category.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.category.service.CategoryPriceStatsService;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CategoryPriceStatsService Unit 테스트")
+class CategoryPriceStatsServiceTest {
+
+    private ProductRepository productRepository;
+    private CategoryPriceStatsService categoryPriceStatsService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        when(productRepository.findPriceCounts()).thenReturn(List.of(ProductPriceCount.builder()
+            .brandId(1L).category(CategoryInfo.TOP).price(1000L).count(1L).build()));
+        categoryPriceStatsService = new CategoryPriceStatsService(productRepository);
+        categoryPriceStatsService.load(5L);
+    }
+
+    private long topCount() {
+        return categoryPriceStatsService.getStats(CategoryInfo.TOP.name()).getCount();
+    }
+
+    @Test
+    @DisplayName("집계에 이미 반영된 위치까지의 이벤트는 다시 반영하지 않는다")
+    void shouldSkipEventsAlreadyLoaded() {
+        categoryPriceStatsService.onEvents(
+            List.of(new ProductCreated(2L, 1L, CategoryInfo.TOP, 2000L)), 5L);
+        assertThat(topCount()).isEqualTo(1);
+
+        categoryPriceStatsService.onEvents(
+            List.of(new ProductCreated(3L, 1L, CategoryInfo.TOP, 3000L)), 6L);
+        assertThat(topCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 도중 실패하면 앞의 이벤트도 반영하지 않아, 같은 배치를 다시 전달받아도 두 번 반영하지 않는다")
+    void shouldNotDoubleCountRetriedBatch() {
+        // Given: 두 번째 이벤트의 카테고리가 없어 배치 처리가 실패한다
+        final ProductCreated created = new ProductCreated(2L, 1L, CategoryInfo.TOP, 2000L);
+        assertThatThrownBy(() -> categoryPriceStatsService.onEvents(
+            List.of(created, new ProductCreated(3L, 1L, null, 3000L)), 6L))
+            .isInstanceOf(NullPointerException.class);
+        assertThat(topCount()).isEqualTo(1);
+
+        // When: 릴레이가 같은 위치의 배치를 다시 전달한다
+        categoryPriceStatsService.onEvents(List.of(created), 6L);
+
+        // Then
+        assertThat(topCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이벤트가 반영된 위치보다 오래된 집계로 통계를 덮어쓰지 않는다")
+    void shouldNotReplaceWithOlderLoad() {
+        // Given
+        categoryPriceStatsService.onEvents(
+            List.of(new ProductCreated(2L, 1L, CategoryInfo.TOP, 2000L)), 6L);
+
+        // When: 이벤트 6이 반영되기 전의 집계
+        categoryPriceStatsService.load(5L);
+
+        // Then
+        assertThat(topCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,95 @@
+package dev.hodory.musinsa.unit.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.cache.CacheVersion;
+import dev.hodory.musinsa.common.cache.CacheVersionPoller;
+import dev.hodory.musinsa.common.cache.CacheVersionRepository;
+import dev.hodory.musinsa.common.cache.CategoryMaskCache;
+import dev.hodory.musinsa.config.CacheConfig;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+
+@DisplayName("CacheVersionPoller Unit 테스트")
+class CacheVersionPollerTest {
+
+    private static final int TOP_AND_BAG = CategoryInfo.maskOf(
+        EnumSet.of(CategoryInfo.TOP, CategoryInfo.BAG));
+    private static final int OUTER_AND_HAT = CategoryInfo.maskOf(
+        EnumSet.of(CategoryInfo.OUTER, CategoryInfo.HAT));
+
+    private CacheVersionRepository cacheVersionRepository;
+    private CacheManager cacheManager;
+    private Cache cache;
+    private CacheVersionPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        cacheVersionRepository = mock(CacheVersionRepository.class);
+        final SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
+        simpleCacheManager.setCaches(
+            List.of(new CategoryMaskCache(CacheConfig.LOWEST_PRICE_BASKET)));
+        simpleCacheManager.afterPropertiesSet();
+        cacheManager = new TransactionAwareCacheManagerProxy(simpleCacheManager);
+        cache = cacheManager.getCache(CacheConfig.LOWEST_PRICE_BASKET);
+        poller = new CacheVersionPoller(cacheVersionRepository, cacheManager);
+
+        when(cacheVersionRepository.findAll()).thenReturn(versions(0, 0));
+        poller.poll();
+        cache.put(TOP_AND_BAG, "top-and-bag");
+        cache.put(OUTER_AND_HAT, "outer-and-hat");
+    }
+
+    private List<CacheVersion> versions(long top, long outer) {
+        return List.of(
+            CacheVersion.builder().scope(CategoryInfo.TOP.name()).version(top).build(),
+            CacheVersion.builder().scope(CategoryInfo.OUTER.name()).version(outer).build());
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌지 않았으면 캐시를 유지한다")
+    void shouldKeepCacheWhenUnchanged() {
+        poller.poll();
+
+        assertThat(cache.get(TOP_AND_BAG)).isNotNull();
+        assertThat(cache.get(OUTER_AND_HAT)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 카테고리를 포함하는 조합만 삭제한다")
+    void shouldEvictOnlyAffectedCombinations() {
+        // Given
+        when(cacheVersionRepository.findAll()).thenReturn(versions(1, 0));
+
+        // When
+        poller.poll();
+
+        // Then
+        assertThat(cache.get(TOP_AND_BAG)).isNull();
+        assertThat(cache.get(OUTER_AND_HAT)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("처음 확인할 때는 이전 버전을 모르므로 모든 조합을 삭제한다")
+    void shouldEvictAllOnFirstPoll() {
+        // Given
+        poller = new CacheVersionPoller(cacheVersionRepository, cacheManager);
+
+        // When
+        poller.poll();
+
+        // Then
+        assertThat(cache.get(TOP_AND_BAG)).isNull();
+        assertThat(cache.get(OUTER_AND_HAT)).isNull();
+    }
+}
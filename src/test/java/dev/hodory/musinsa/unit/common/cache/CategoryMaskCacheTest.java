@@ -0,0 +1,95 @@
+package dev.hodory.musinsa.unit.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.cache.CategoryMaskCache;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import java.util.EnumSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CategoryMaskCache Unit 테스트")
+class CategoryMaskCacheTest {
+
+    private static final int TOP_AND_BAG = CategoryInfo.maskOf(
+        EnumSet.of(CategoryInfo.TOP, CategoryInfo.BAG));
+    private static final int OUTER_AND_HAT = CategoryInfo.maskOf(
+        EnumSet.of(CategoryInfo.OUTER, CategoryInfo.HAT));
+
+    private final CategoryMaskCache cache = new CategoryMaskCache("test");
+
+    @Test
+    @DisplayName("계산한 값을 저장하고, 다시 조회하면 계산하지 않는다")
+    void shouldStoreLoadedValue() {
+        assertThat(cache.get(TOP_AND_BAG, () -> "first")).isEqualTo("first");
+
+        assertThat(cache.get(TOP_AND_BAG, () -> "second")).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("계산하는 동안 조합의 카테고리가 삭제되면 계산한 값을 반환하되 저장하지 않는다")
+    void shouldNotStoreValueLoadedAcrossEviction() {
+        // When
+        final String loaded = cache.get(TOP_AND_BAG, () -> {
+            cache.evictCategories(CategoryInfo.BAG.bit());
+            return "stale";
+        });
+
+        // Then
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(TOP_AND_BAG)).isNull();
+    }
+
+    @Test
+    @DisplayName("커밋된 마지막 변경의 버전 이상을 요구하며 값을 계산한다")
+    void shouldLoadAtLeastCommittedVersion() {
+        // Given
+        CatalogVersionRequirement.recordCommitted(7L);
+
+        // When
+        final Long required = cache.get(TOP_AND_BAG, CatalogVersionRequirement::current);
+
+        // Then
+        assertThat(required).isGreaterThanOrEqualTo(7L);
+        assertThat(CatalogVersionRequirement.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("계산하는 동안 다른 카테고리만 삭제되면 계산한 값을 저장한다")
+    void shouldStoreValueWhenOtherCategoriesEvicted() {
+        // When
+        cache.get(TOP_AND_BAG, () -> {
+            cache.evictCategories(OUTER_AND_HAT);
+            return "fresh";
+        });
+
+        // Then
+        assertThat(cache.get(TOP_AND_BAG)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("삭제한 카테고리를 포함하는 조합만 삭제하고, 전체 삭제는 계산 중인 모든 조합에 적용된다")
+    void shouldEvictOnlyAffectedCombinations() {
+        // Given
+        cache.put(TOP_AND_BAG, "top-and-bag");
+        cache.put(OUTER_AND_HAT, "outer-and-hat");
+
+        // When
+        cache.evictCategories(CategoryInfo.TOP.bit());
+
+        // Then
+        assertThat(cache.get(TOP_AND_BAG)).isNull();
+        assertThat(cache.get(OUTER_AND_HAT)).isNotNull();
+
+        // When
+        cache.get(TOP_AND_BAG, () -> {
+            cache.clear();
+            return "stale";
+        });
+
+        // Then
+        assertThat(cache.get(TOP_AND_BAG)).isNull();
+        assertThat(cache.get(OUTER_AND_HAT)).isNull();
+    }
+}
@@ -0,0 +1,130 @@
+package dev.hodory.musinsa.unit.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.common.concurrent.DebouncedRecompute;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DebouncedRecompute Unit 테스트")
+class DebouncedRecomputeTest {
+
+    private final List<Set<String>> recomputedKeys = new CopyOnWriteArrayList<>();
+    private final List<Long> recomputedVersions = new CopyOnWriteArrayList<>();
+    private DebouncedRecompute<String> debouncedRecompute;
+
+    @AfterEach
+    void tearDown() {
+        debouncedRecompute.close();
+    }
+
+    private DebouncedRecompute<String> create(Duration quietPeriod, Duration maxDelay,
+        CountDownLatch recomputed) {
+        return create(quietPeriod, maxDelay, (keys, version) -> {
+            recomputedKeys.add(keys);
+            recomputedVersions.add(version);
+            recomputed.countDown();
+        });
+    }
+
+    private DebouncedRecompute<String> create(Duration quietPeriod, Duration maxDelay,
+        BiConsumer<Set<String>, Long> recompute) {
+        debouncedRecompute = new DebouncedRecompute<>("test-recompute", quietPeriod, maxDelay,
+            recompute);
+        return debouncedRecompute;
+    }
+
+    @Test
+    @DisplayName("조용한 시간 안에 들어온 변경은 키마다 한 번만, 가장 큰 버전으로 다시 계산한다")
+    void shouldCoalesceMarksWithinQuietPeriod() throws Exception {
+        // Given
+        final CountDownLatch recomputed = new CountDownLatch(1);
+        create(Duration.ofMillis(100), Duration.ofSeconds(5), recomputed);
+
+        // When
+        for (long version = 1; version <= 1000; version++) {
+            debouncedRecompute.mark(List.of(version % 2 == 0 ? "A" : "B"), version);
+        }
+
+        // Then
+        assertThat(debouncedRecompute.backlog()).isEqualTo(2);
+        assertThat(recomputed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(recomputedKeys).containsExactly(Set.of("A", "B"));
+        assertThat(recomputedVersions).containsExactly(1000L);
+        assertThat(debouncedRecompute.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("변경이 멈추지 않아도 최대 지연 시간이 지나면 다시 계산한다")
+    void shouldRecomputeAfterMaxDelayDuringContinuousWrites() throws Exception {
+        // Given
+        final CountDownLatch recomputed = new CountDownLatch(1);
+        create(Duration.ofMillis(200), Duration.ofMillis(300), recomputed);
+
+        // When
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        long version = 0;
+        while (recomputed.getCount() > 0 && System.nanoTime() < deadline) {
+            debouncedRecompute.mark(List.of("A"), ++version);
+            Thread.sleep(20);
+        }
+
+        // Then
+        assertThat(recomputed.getCount()).isZero();
+        assertThat(recomputedKeys.get(0)).containsExactly("A");
+    }
+
+    @Test
+    @DisplayName("다시 계산하다 실패하면 같은 키와 버전으로 다시 예약한다")
+    void shouldRetryFailedRecompute() throws Exception {
+        // Given
+        final AtomicBoolean failed = new AtomicBoolean();
+        final CountDownLatch recomputed = new CountDownLatch(1);
+        create(Duration.ofMillis(20), Duration.ofMillis(100), (keys, version) -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("일시적인 실패");
+            }
+            recomputedKeys.add(keys);
+            recomputedVersions.add(version);
+            recomputed.countDown();
+        });
+
+        // When
+        debouncedRecompute.mark(List.of("A"), 3L);
+
+        // Then
+        assertThat(recomputed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(recomputedKeys).containsExactly(Set.of("A"));
+        assertThat(recomputedVersions).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하면 다시 시도하기까지의 시간을 두 배씩 늘린다")
+    void shouldBackOffRepeatedFailures() throws Exception {
+        // Given
+        final List<Long> attemptedAt = new CopyOnWriteArrayList<>();
+        final CountDownLatch attempted = new CountDownLatch(4);
+        create(Duration.ofMillis(20), Duration.ofMillis(100), (keys, version) -> {
+            attemptedAt.add(System.nanoTime());
+            attempted.countDown();
+            throw new IllegalStateException("계속되는 실패");
+        });
+
+        // When
+        debouncedRecompute.mark(List.of("A"), 3L);
+
+        // Then: 실패 뒤 40ms, 80ms, 160ms 뒤에 다시 시도합니다.
+        assertThat(attempted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(attemptedAt.get(3) - attemptedAt.get(2))
+            .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(160));
+    }
+}
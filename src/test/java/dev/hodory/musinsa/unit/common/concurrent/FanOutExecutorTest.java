@@ -0,0 +1,123 @@
+package dev.hodory.musinsa.unit.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.hodory.musinsa.common.concurrent.FanOutExecutor;
+import dev.hodory.musinsa.common.concurrent.FanOutProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("FanOutExecutor Unit 테스트")
+class FanOutExecutorTest {
+
+    private ExecutorService executorService;
+    private FanOutExecutor fanOutExecutor;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        final FanOutProperties properties = new FanOutProperties();
+        properties.setDeadline(Duration.ofMillis(500));
+        fanOutExecutor = new FanOutExecutor(new TaskExecutorAdapter(executorService),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private static Supplier<String> sleeping(String result, long millis) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return result;
+        };
+    }
+
+    @Test
+    @DisplayName("독립적인 조회를 병렬로 실행하여 가장 느린 조회만큼만 걸리고, 전달한 순서대로 결과를 반환한다")
+    void shouldRunTasksInParallel() {
+        // Given
+        final List<Supplier<String>> tasks = List.of(sleeping("min", 200), sleeping("max", 200));
+
+        // When
+        final long started = System.nanoTime();
+        final List<String> results = fanOutExecutor.invokeAll(tasks);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertThat(results).containsExactly("min", "max");
+        assertThat(elapsedMillis).isLessThan(380);
+    }
+
+    @Test
+    @DisplayName("deadline 안에 끝나지 않으면 QueryTimeoutException을 던지고 실행 중인 조회를 인터럽트한다")
+    void shouldCancelTasksAfterDeadline() throws InterruptedException {
+        // Given
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Supplier<String> slow = () -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "slow";
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> fanOutExecutor.invokeAll(List.of(sleeping("fast", 10), slow)))
+            .isInstanceOf(QueryTimeoutException.class);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 원래 예외를 그대로 던진다")
+    void shouldRethrowTaskException() {
+        // Given
+        final Supplier<String> failing = () -> {
+            throw new IllegalArgumentException("실패");
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> fanOutExecutor.invokeAll(List.of(failing, sleeping("ok", 10))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("실패");
+    }
+
+    @Test
+    @DisplayName("호출한 스레드에 트랜잭션이 있으면 같은 스레드에서 순서대로 실행한다")
+    void shouldRunSequentiallyInsideTransaction() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        final Thread caller = Thread.currentThread();
+        final Supplier<Boolean> sameThread = () -> Thread.currentThread() == caller;
+
+        // When
+        final List<Boolean> results = fanOutExecutor.invokeAll(List.of(sameThread, sameThread));
+
+        // Then
+        assertThat(results).containsExactly(true, true);
+    }
+}
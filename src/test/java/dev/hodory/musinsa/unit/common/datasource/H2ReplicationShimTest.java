@@ -0,0 +1,158 @@
+package dev.hodory.musinsa.unit.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.common.datasource.H2ReplicationShim;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+@DisplayName("H2ReplicationShim Unit 테스트")
+class H2ReplicationShimTest {
+
+    private SingleConnectionDataSource primary;
+    private SingleConnectionDataSource replica;
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private H2ReplicationShim shim;
+
+    @BeforeEach
+    void setUp() {
+        primary = new SingleConnectionDataSource("jdbc:h2:mem:shim-primary", "sa", "", true);
+        replica = new SingleConnectionDataSource("jdbc:h2:mem:shim-replica", "sa", "", true);
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+
+        primaryJdbc.execute("create table brand (id bigint generated by default as identity"
+            + " primary key, name varchar(255))");
+        primaryJdbc.execute("create table product (id bigint generated by default as identity"
+            + " primary key, brand_id bigint references brand(id), price bigint)");
+        primaryJdbc.execute("create table outbox_event (id bigint generated by default as identity"
+            + " primary key, payload clob, created_at timestamp(6))");
+        primaryJdbc.execute("create table scheduler_lock (name varchar(64) primary key)");
+        primaryJdbc.update("insert into brand (name) values ('A'), ('B')");
+        primaryJdbc.update("insert into product (brand_id, price) values (1, 1000), (2, 2000)");
+        primaryJdbc.update("insert into outbox_event (payload, created_at) values"
+            + " ('{}', timestamp '2024-01-01 00:00:00'), ('{}', timestamp '2024-01-01 00:00:00')");
+        primaryJdbc.update("insert into scheduler_lock (name) values ('outbox-purge')");
+
+        shim = new H2ReplicationShim(primary, replica,
+            List.of("brand", "product", "cache_version"), Duration.ofSeconds(15),
+            Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryJdbc.execute("drop all objects");
+        replicaJdbc.execute("drop all objects");
+        primary.destroy();
+        replica.destroy();
+    }
+
+    @Test
+    @DisplayName("복사하기 전에는 복제 지연을 알 수 없다")
+    void lagIsUnknownBeforeSync() {
+        assertThat(shim.lag()).isNull();
+        assertThat(shim.replicatedVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("원본의 테이블과 데이터를 복제 DB로 복사하고, 복제된 outbox id를 버전으로 기록한다")
+    void shouldCopySchemaAndData() {
+        // When
+        shim.sync();
+
+        // Then
+        assertThat(replicaJdbc.queryForObject("select count(*) from brand", Long.class))
+            .isEqualTo(2L);
+        assertThat(replicaJdbc.queryForObject(
+            "select sum(price) from product", Long.class)).isEqualTo(3000L);
+        assertThat(replicaJdbc.queryForObject(
+            "select payload from outbox_event where id = 2", String.class)).isEqualTo("{}");
+        assertThat(shim.replicatedVersion()).isEqualTo(2L);
+        assertThat(shim.lag()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("다시 복사하면 원본의 변경과 삭제가 복제 DB에 반영된다")
+    void shouldReplaceDataOnNextSync() {
+        // Given
+        shim.sync();
+        primaryJdbc.update("update product set price = 500 where id = 1");
+        primaryJdbc.update("delete from product where id = 2");
+        primaryJdbc.update("insert into outbox_event (payload, created_at) values"
+            + " ('{}', timestamp '2024-01-01 00:00:00')");
+        primaryJdbc.update("delete from outbox_event where id = 1");
+
+        // When
+        shim.sync();
+
+        // Then
+        assertThat(replicaJdbc.queryForList("select price from product", Long.class))
+            .containsExactly(500L);
+        assertThat(replicaJdbc.queryForList("select id from outbox_event order by id", Long.class))
+            .containsExactly(2L, 3L);
+        assertThat(shim.replicatedVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("조회에 쓰지 않는 테이블은 스키마만 만들고 데이터는 복사하지 않는다")
+    void shouldCopyOnlyConfiguredTables() {
+        // When
+        shim.sync();
+
+        // Then
+        assertThat(replicaJdbc.queryForObject("select count(*) from scheduler_lock", Long.class))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("커밋되지 않았을 수 있는 outbox id 공백이 있으면 복제된 버전을 공백 앞에서 멈춘다")
+    void shouldStopVersionAtRecentGap() {
+        // Given
+        shim.sync();
+        primaryJdbc.update("insert into outbox_event (id, payload, created_at) values"
+            + " (4, '{}', timestamp '2024-01-01 00:00:00')");
+
+        // When
+        shim.sync();
+
+        // Then
+        assertThat(shim.replicatedVersion()).isEqualTo(2L);
+        assertThat(replicaJdbc.queryForList("select id from outbox_event order by id", Long.class))
+            .containsExactly(1L, 2L, 4L);
+
+        // When
+        primaryJdbc.update("insert into outbox_event (id, payload, created_at) values"
+            + " (3, '{}', timestamp '2024-01-01 00:00:00')");
+        shim.sync();
+
+        // Then
+        assertThat(shim.replicatedVersion()).isEqualTo(4L);
+        assertThat(replicaJdbc.queryForList("select id from outbox_event order by id", Long.class))
+            .containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("공백 뒤의 이벤트가 공백 대기 시간보다 오래되었으면 공백을 넘어 복제된 버전을 올린다")
+    void shouldSkipGapOlderThanGapTimeout() {
+        // Given
+        shim.sync();
+        primaryJdbc.update("insert into outbox_event (id, payload, created_at) values"
+            + " (4, '{}', timestamp '2023-12-31 23:59:00')");
+
+        // When
+        shim.sync();
+
+        // Then
+        assertThat(shim.replicatedVersion()).isEqualTo(4L);
+    }
+}
@@ -0,0 +1,95 @@
+package dev.hodory.musinsa.unit.common.datasource;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hodory.musinsa.common.datasource.ReadWriteRoutingDataSource;
+import dev.hodory.musinsa.common.datasource.ReplicaStatus;
+import dev.hodory.musinsa.common.version.CatalogVersionRequirement;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("ReadWriteRoutingDataSource Unit 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaStatus replicaStatus;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        replicaStatus = mock(ReplicaStatus.class);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, replicaStatus,
+            Duration.ofSeconds(1));
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 원본 DB를 사용한다")
+    void shouldRouteWritesToPrimary() throws SQLException {
+        when(replicaStatus.lag()).thenReturn(Duration.ZERO);
+
+        routingDataSource.getConnection();
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 지연이 허용 범위 안이면 복제 DB를 사용한다")
+    void shouldRouteReadOnlyToReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaStatus.lag()).thenReturn(Duration.ofMillis(500));
+
+        routingDataSource.getConnection();
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 원본 DB를 사용한다")
+    void shouldRouteReadOnlyToPrimaryWhenLagging() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaStatus.lag()).thenReturn(Duration.ofSeconds(2));
+
+        routingDataSource.getConnection();
+
+        verify(primary).getConnection();
+    }
+
+    @Test
+    @DisplayName("요구되는 카탈로그 버전이 복제되지 않았으면 원본 DB를 사용한다")
+    void shouldRouteReadOnlyToPrimaryWhenVersionNotReplicated() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaStatus.lag()).thenReturn(Duration.ZERO);
+        when(replicaStatus.replicatedVersion()).thenReturn(3L);
+
+        CatalogVersionRequirement.runAtLeast(5L, () -> {
+            try {
+                routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+}
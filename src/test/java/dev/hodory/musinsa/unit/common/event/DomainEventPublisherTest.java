@@ -0,0 +1,147 @@
+package dev.hodory.musinsa.unit.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hodory.musinsa.brand.event.BrandRenamed;
+import dev.hodory.musinsa.common.event.DomainEventPublisher;
+import dev.hodory.musinsa.common.outbox.OutboxEvent;
+import dev.hodory.musinsa.common.outbox.OutboxEventRepository;
+import dev.hodory.musinsa.common.outbox.OutboxEventSerializer;
+import dev.hodory.musinsa.common.outbox.OutboxRelay;
+import dev.hodory.musinsa.common.version.CatalogVersionHeader;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("DomainEventPublisher Unit 테스트")
+class DomainEventPublisherTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxRelay outboxRelay;
+    private DomainEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        outboxRelay = mock(OutboxRelay.class);
+        publisher = new DomainEventPublisher(outboxEventRepository,
+            new OutboxEventSerializer(new ObjectMapper()), outboxRelay);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void complete(int status) {
+        final List<TransactionSynchronization> synchronizations =
+            TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("이벤트를 트랜잭션 안에서 outbox에 저장하고, 커밋된 뒤 릴레이에 알린다")
+    void shouldSaveToOutboxAndNudgeRelayAfterCommit() {
+        // Given
+        beginTransaction();
+
+        // When
+        publisher.publish(new BrandRenamed(1L, "A", "B"));
+
+        // Then
+        final ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(BrandRenamed.class.getName());
+        assertThat(captor.getValue().getPayload()).contains("\"oldName\":\"A\"");
+        verify(outboxRelay, never()).nudge();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(outboxRelay).nudge();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션은 릴레이에 알리지 않는다")
+    void shouldNotNudgeRelayAfterRollback() {
+        // Given
+        beginTransaction();
+        publisher.publish(new BrandRenamed(1L, "A", "B"));
+
+        // When
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        verify(outboxRelay, never()).nudge();
+    }
+
+    @Test
+    @DisplayName("저장된 outbox id는 커밋된 뒤에만 카탈로그 버전으로 기록한다")
+    void shouldRecordCatalogVersionOnlyAfterCommit() {
+        // Given
+        final ServletRequestAttributes attributes = new ServletRequestAttributes(
+            new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        when(outboxEventRepository.save(any())).thenReturn(OutboxEvent.builder().id(7L).build());
+        beginTransaction();
+
+        // When
+        publisher.publish(new BrandRenamed(1L, "A", "B"));
+
+        // Then
+        assertThat(CatalogVersionHeader.recorded(attributes)).isNull();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(CatalogVersionHeader.recorded(attributes)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 outbox id는 카탈로그 버전으로 기록하지 않는다")
+    void shouldNotRecordCatalogVersionAfterRollback() {
+        // Given
+        final ServletRequestAttributes attributes = new ServletRequestAttributes(
+            new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        when(outboxEventRepository.save(any())).thenReturn(OutboxEvent.builder().id(7L).build());
+        beginTransaction();
+        publisher.publish(new BrandRenamed(1L, "A", "B"));
+
+        // When
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertThat(CatalogVersionHeader.recorded(attributes)).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행하면 IllegalStateException을 던진다")
+    void shouldThrowWithoutTransaction() {
+        assertThatThrownBy(() -> publisher.publish(new BrandRenamed(1L, "A", "B")))
+            .isInstanceOf(IllegalStateException.class);
+        verify(outboxEventRepository, never()).save(any());
+    }
+}
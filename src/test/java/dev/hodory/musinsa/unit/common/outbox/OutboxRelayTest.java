@@ -0,0 +1,336 @@
+package dev.hodory.musinsa.unit.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hodory.musinsa.brand.event.BrandRenamed;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.common.event.DomainEventListener;
+import dev.hodory.musinsa.common.lock.SchedulerLockService;
+import dev.hodory.musinsa.common.outbox.OutboxDeadLetter;
+import dev.hodory.musinsa.common.outbox.OutboxDeadLetterRepository;
+import dev.hodory.musinsa.common.outbox.OutboxEvent;
+import dev.hodory.musinsa.common.outbox.OutboxEventRepository;
+import dev.hodory.musinsa.common.outbox.OutboxEventSerializer;
+import dev.hodory.musinsa.common.outbox.OutboxProperties;
+import dev.hodory.musinsa.common.outbox.OutboxRelay;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("OutboxRelay Unit 테스트")
+class OutboxRelayTest {
+
+    private final OutboxEventSerializer serializer = new OutboxEventSerializer(new ObjectMapper());
+    private final List<DomainEvent> received = new ArrayList<>();
+    private int loadCount;
+    private long loadedVersion;
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        outboxDeadLetterRepository = mock(OutboxDeadLetterRepository.class);
+        final DomainEventListener listener = new DomainEventListener() {
+            @Override
+            public void load(long version) {
+                loadCount++;
+                loadedVersion = version;
+            }
+
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                received.addAll(events);
+            }
+        };
+
+        final OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        outboxRelay = new OutboxRelay(outboxEventRepository, serializer,
+            outboxDeadLetterRepository, List.of(listener),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            mock(SchedulerLockService.class), properties, Runnable::run);
+    }
+
+    private OutboxEvent outboxEvent(long id, DomainEvent event, LocalDateTime createdAt) {
+        final OutboxEvent serialized = serializer.serialize(event);
+        return OutboxEvent.builder()
+            .id(id)
+            .eventType(serialized.getEventType())
+            .payload(serialized.getPayload())
+            .createdAt(createdAt)
+            .build();
+    }
+
+    @Test
+    @DisplayName("시작할 때 파생 데이터를 집계하고, high-water mark 이후의 이벤트를 배치 단위로 순서대로 전달한다")
+    void shouldLoadAndDrainAfterHighWaterMark() {
+        // Given
+        final LocalDateTime now = LocalDateTime.now();
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(10L);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any()))
+            .thenReturn(List.of(outboxEvent(11L, new BrandRenamed(1L, "A", "B"), now),
+                outboxEvent(12L, new BrandRenamed(1L, "B", "C"), now)));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(12L), any()))
+            .thenReturn(List.of(outboxEvent(13L, new BrandRenamed(1L, "C", "D"), now)));
+
+        // When
+        outboxRelay.start();
+
+        // Then
+        assertThat(loadCount).isEqualTo(1);
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"),
+            new BrandRenamed(1L, "B", "C"), new BrandRenamed(1L, "C", "D"));
+        assertThat(outboxRelay.getHighWaterMark()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("아직 커밋되지 않았을 수 있는 id 공백 앞에서 전달을 멈춘다")
+    void shouldStopAtRecentGap() {
+        // Given
+        final LocalDateTime now = LocalDateTime.now();
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(0L);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+            .thenReturn(List.of(outboxEvent(1L, new BrandRenamed(1L, "A", "B"), now),
+                outboxEvent(3L, new BrandRenamed(1L, "B", "C"), now)));
+
+        // When
+        outboxRelay.start();
+
+        // Then
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"));
+        assertThat(outboxRelay.getHighWaterMark()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("gap-timeout보다 오래된 id 공백은 롤백된 것으로 보고 건너뛴다")
+    void shouldSkipExpiredGap() {
+        // Given
+        final LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(0L);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+            .thenReturn(List.of(outboxEvent(2L, new BrandRenamed(1L, "A", "B"), old)));
+
+        // When
+        outboxRelay.start();
+
+        // Then
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"));
+        assertThat(outboxRelay.getHighWaterMark()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("시작할 때 커밋되지 않은 더 작은 id가 있으면 그 앞에서 시작하고, 나중에 커밋되면 집계에 없던 이벤트만 전달한다")
+    void shouldDeliverLowerIdCommittedAfterStart() {
+        // Given: 스냅샷에는 12가 있고, 더 먼저 id를 받은 11은 아직 커밋되지 않았다
+        final LocalDateTime now = LocalDateTime.now();
+        final OutboxEvent late = outboxEvent(11L, new BrandRenamed(1L, "A", "B"), now);
+        final OutboxEvent loaded = outboxEvent(12L, new BrandRenamed(2L, "C", "D"), now);
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(10L);
+        when(outboxEventRepository.findAllByIdGreaterThanOrderByIdAsc(10L))
+            .thenReturn(List.of(loaded));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any()))
+            .thenReturn(List.of(loaded), List.of(late, loaded));
+
+        // When
+        outboxRelay.start();
+
+        // Then
+        assertThat(loadedVersion).isEqualTo(10L);
+        assertThat(received).isEmpty();
+        assertThat(outboxRelay.getHighWaterMark()).isEqualTo(10L);
+
+        // When: 11이 커밋된 뒤의 폴링
+        outboxRelay.poll();
+
+        // Then
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"));
+        assertThat(outboxRelay.getHighWaterMark()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("역직렬화하지 못한 이벤트는 dead letter로 옮기고 나머지 이벤트는 계속 전달한다")
+    void shouldMoveCorruptEventToDeadLetter() {
+        // Given
+        final LocalDateTime now = LocalDateTime.now();
+        final OutboxEvent corrupt = OutboxEvent.builder()
+            .id(2L)
+            .eventType(BrandRenamed.class.getName())
+            .payload("{not json")
+            .createdAt(now)
+            .build();
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(0L);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+            .thenReturn(List.of(outboxEvent(1L, new BrandRenamed(1L, "A", "B"), now), corrupt));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(2L), any()))
+            .thenReturn(List.of(outboxEvent(3L, new BrandRenamed(1L, "B", "C"), now)));
+
+        // When
+        outboxRelay.start();
+
+        // Then
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"),
+            new BrandRenamed(1L, "B", "C"));
+        assertThat(outboxRelay.getHighWaterMark()).isEqualTo(3L);
+        final ArgumentCaptor<OutboxDeadLetter> deadLetter = ArgumentCaptor.forClass(
+            OutboxDeadLetter.class);
+        verify(outboxDeadLetterRepository).save(deadLetter.capture());
+        assertThat(deadLetter.getValue().getId()).isEqualTo(2L);
+        assertThat(deadLetter.getValue().getPayload()).isEqualTo("{not json");
+    }
+
+    @Test
+    @DisplayName("gap-timeout이 트랜잭션 제한 시간보다 길지 않으면 시작하지 않는다")
+    void shouldRejectGapTimeoutNotLongerThanTransactionTimeout() {
+        // Given
+        final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager();
+        transactionManager.setDefaultTimeout(30);
+        final OutboxProperties properties = new OutboxProperties();
+        properties.setGapTimeout(Duration.ofSeconds(30));
+
+        // When, Then
+        assertThatThrownBy(() -> new OutboxRelay(outboxEventRepository, serializer,
+            outboxDeadLetterRepository, List.of(), new TransactionTemplate(transactionManager),
+            mock(SchedulerLockService.class), properties, Runnable::run))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 리스너는 위치를 유지하고 다음 폴링에서 같은 이벤트를 다시 받는다")
+    void shouldRetryFailedListener() {
+        // Given
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DomainEvent> retried = new ArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        final OutboxRelay relay = relayWith(new DomainEventListener() {
+            @Override
+            public void load(long version) {
+            }
+
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("일시적인 실패");
+                }
+                retried.addAll(events);
+            }
+        }, 5);
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(0L);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+            .thenReturn(List.of(outboxEvent(1L, new BrandRenamed(1L, "A", "B"), now)));
+
+        // When
+        relay.start();
+
+        // Then
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"));
+        assertThat(retried).isEmpty();
+        assertThat(relay.getHighWaterMark()).isZero();
+
+        // When
+        relay.poll();
+
+        // Then
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"));
+        assertThat(retried).containsExactly(new BrandRenamed(1L, "A", "B"));
+        assertThat(relay.getHighWaterMark()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("리스너가 max-listener-attempts번 연속 실패하면 파생 데이터를 다시 집계하고 집계 시점부터 전달한다")
+    void shouldReloadListenerAfterMaxAttempts() {
+        // Given
+        final LocalDateTime now = LocalDateTime.now();
+        final AtomicInteger reloads = new AtomicInteger();
+        final OutboxRelay relay = relayWith(new DomainEventListener() {
+            @Override
+            public void load(long version) {
+                reloads.incrementAndGet();
+            }
+
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                throw new IllegalStateException("처리할 수 없는 이벤트");
+            }
+        }, 2);
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(0L, 1L);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+            .thenReturn(List.of(outboxEvent(1L, new BrandRenamed(1L, "A", "B"), now)));
+
+        // When
+        relay.start();
+        relay.poll();
+
+        // Then
+        assertThat(reloads).hasValue(2);
+        assertThat(received).containsExactly(new BrandRenamed(1L, "A", "B"));
+        assertThat(relay.getHighWaterMark()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("정리는 배치마다 잠금을 연장하고, 연장하지 못하면 남은 이벤트를 삭제하지 않는다")
+    void shouldStopPurgeWhenLockExtensionFails() {
+        // Given
+        final SchedulerLockService schedulerLockService = mock(SchedulerLockService.class);
+        when(schedulerLockService.callExclusively(eq(OutboxRelay.PURGE_LOCK), any()))
+            .thenAnswer(invocation -> Optional.of(invocation.<Supplier<?>>getArgument(1).get()));
+        when(schedulerLockService.extend(OutboxRelay.PURGE_LOCK)).thenReturn(true, false);
+        final OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        final OutboxRelay relay = new OutboxRelay(outboxEventRepository, serializer,
+            outboxDeadLetterRepository, List.of(),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            schedulerLockService, properties, Runnable::run);
+        when(outboxEventRepository.findMaxIdCreatedAtOrBefore(any())).thenReturn(10L);
+        when(outboxEventRepository.findProcessedIdsBefore(eq(10L), any(), any()))
+            .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L), List.of(7L));
+        relay.start();
+
+        // When
+        final int deleted = relay.purge();
+
+        // Then
+        assertThat(deleted).isEqualTo(4);
+        verify(outboxEventRepository, times(2)).deleteAllByIdInBatch(any());
+        verify(schedulerLockService, times(2)).extend(OutboxRelay.PURGE_LOCK);
+    }
+
+    private OutboxRelay relayWith(DomainEventListener failing, int maxListenerAttempts) {
+        final OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        properties.setMaxListenerAttempts(maxListenerAttempts);
+        final DomainEventListener receiving = new DomainEventListener() {
+            @Override
+            public void load(long version) {
+            }
+
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                received.addAll(events);
+            }
+        };
+        return new OutboxRelay(outboxEventRepository, serializer, outboxDeadLetterRepository,
+            List.of(receiving, failing), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            mock(SchedulerLockService.class), properties, Runnable::run);
+    }
+}
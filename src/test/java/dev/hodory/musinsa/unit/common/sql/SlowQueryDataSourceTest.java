@@ -0,0 +1,74 @@
+package dev.hodory.musinsa.unit.common.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.common.sql.SlowQueryDataSource;
+import dev.hodory.musinsa.common.sql.SlowQueryDetector;
+import dev.hodory.musinsa.common.sql.SlowQueryProperties;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryDataSourceTest {
+
+    private SlowQueryDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ZERO);
+        properties.setMaxLogsPerWindow(1);
+        properties.setWindow(Duration.ofHours(1));
+
+        final DriverManagerDataSource target = new DriverManagerDataSource(
+            "jdbc:h2:mem:slow_query;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource = new SlowQueryDataSource(target, new SlowQueryDetector(properties));
+
+        try (Connection connection = target.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT PRIMARY KEY, price BIGINT)");
+        }
+    }
+
+    private long selectPrice(long id) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM item WHERE price > ?")) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("임계치를 넘은 쿼리는 SQL, 파라미터, 실행 계획과 함께 로그로 기록됩니다.")
+    void reportSlowQueryWithExplain(CapturedOutput output) throws Exception {
+        selectPrice(12345L);
+
+        assertThat(output).contains("느린 쿼리가 감지되었습니다.")
+            .contains("SELECT COUNT(*) FROM item WHERE price > ?")
+            .contains("[12345]")
+            .contains("PUBLIC.ITEM");
+    }
+
+    @Test
+    @DisplayName("window 동안 최대 로그 수를 넘은 느린 쿼리는 기록되지 않습니다.")
+    void rateLimitSlowQueryLogs(CapturedOutput output) throws Exception {
+        selectPrice(111L);
+        selectPrice(222L);
+
+        assertThat(output).contains("[111]").doesNotContain("[222]");
+    }
+}
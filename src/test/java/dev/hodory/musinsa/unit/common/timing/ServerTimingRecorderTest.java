@@ -0,0 +1,39 @@
+package dev.hodory.musinsa.unit.common.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.common.timing.ServerTimingRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ServerTimingRecorderTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTimingRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("기록기가 바인딩되지 않았으면 null을 반환합니다.")
+    void currentIsNullWhenNotStarted() {
+        assertThat(ServerTimingRecorder.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("실행된 SQL 개수와 db, agg, ser 항목을 Server-Timing 헤더 형식으로 반환합니다.")
+    void toHeaderValue() {
+        final ServerTimingRecorder recorder = ServerTimingRecorder.start();
+
+        recorder.statementStarted();
+        recorder.statementEnded();
+        recorder.statementStarted();
+        recorder.statementEnded();
+        recorder.serializationStarted();
+
+        assertThat(ServerTimingRecorder.current()).isSameAs(recorder);
+        assertThat(recorder.getStatementCount()).isEqualTo(2);
+        assertThat(recorder.toHeaderValue()).matches(
+            "db;dur=\\d+\\.\\d;desc=\"2 statements\", agg;dur=\\d+\\.\\d, ser;dur=\\d+\\.\\d");
+    }
+}
@@ -0,0 +1,88 @@
+package dev.hodory.musinsa.unit.product.domain.basket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.basket.BasketOptimizer;
+import dev.hodory.musinsa.product.domain.basket.BasketOptimizer.Assignment;
+import dev.hodory.musinsa.product.domain.basket.BrandCoverage;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BasketOptimizer Unit 테스트")
+class BasketOptimizerTest {
+
+    private ProductInfo createProductInfo(Long brandId, CategoryInfo category, Long price) {
+        return ProductInfo.builder()
+            .brandId(brandId)
+            .brandName("Brand" + brandId)
+            .categoryId((long) category.ordinal() + 1)
+            .categoryName(category.getTitle())
+            .price(price)
+            .build();
+    }
+
+    private List<BrandCoverage> createCoverages() {
+        // 브랜드 1은 상의, 브랜드 2는 바지, 브랜드 3은 가방이 가장 저렴하고, 브랜드 4는 모든 카테고리가 중간 가격입니다.
+        return BrandCoverage.of(List.of(
+            createProductInfo(1L, CategoryInfo.TOP, 1000L),
+            createProductInfo(1L, CategoryInfo.PANTS, 5000L),
+            createProductInfo(1L, CategoryInfo.BAG, 5000L),
+            createProductInfo(2L, CategoryInfo.TOP, 5000L),
+            createProductInfo(2L, CategoryInfo.PANTS, 1000L),
+            createProductInfo(2L, CategoryInfo.BAG, 5000L),
+            createProductInfo(3L, CategoryInfo.BAG, 1000L),
+            createProductInfo(4L, CategoryInfo.TOP, 2000L),
+            createProductInfo(4L, CategoryInfo.PANTS, 2000L),
+            createProductInfo(4L, CategoryInfo.BAG, 2000L)));
+    }
+
+    private long totalPrice(List<Assignment> assignments) {
+        return assignments.stream().mapToLong(Assignment::totalPrice).sum();
+    }
+
+    private final int basket = CategoryInfo.maskOf(
+        EnumSet.of(CategoryInfo.TOP, CategoryInfo.PANTS, CategoryInfo.BAG));
+
+    @Test
+    @DisplayName("브랜드를 하나만 허용하면 모든 카테고리를 가진 브랜드 중 최저가를 선택한다")
+    void shouldSelectSingleBrand() {
+        List<Assignment> result = BasketOptimizer.optimize(createCoverages(), basket, 1);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).coverage().getBrandId()).isEqualTo(4L);
+        assertThat(totalPrice(result)).isEqualTo(6000L);
+    }
+
+    @Test
+    @DisplayName("브랜드를 두 개 허용하면 카테고리를 나누어 총액을 낮춘다")
+    void shouldSplitCategoriesIntoTwoBrands() {
+        List<Assignment> result = BasketOptimizer.optimize(createCoverages(), basket, 2);
+
+        assertThat(result).hasSizeLessThanOrEqualTo(2);
+        assertThat(totalPrice(result)).isEqualTo(5000L);
+        assertThat(result.stream().mapToInt(Assignment::categoryMask).reduce(0, (a, b) -> a | b))
+            .isEqualTo(basket);
+    }
+
+    @Test
+    @DisplayName("브랜드 수 제한이 충분하면 카테고리별 최저가를 선택한다")
+    void shouldSelectCheapestPerCategory() {
+        List<Assignment> result = BasketOptimizer.optimize(createCoverages(), basket, 3);
+
+        assertThat(result).extracting(assignment -> assignment.coverage().getBrandId())
+            .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(totalPrice(result)).isEqualTo(3000L);
+    }
+
+    @Test
+    @DisplayName("상품이 없는 카테고리가 포함되면 빈 리스트를 반환한다")
+    void shouldReturnEmptyWhenCategoryIsNotSold() {
+        int basketWithHat = basket | CategoryInfo.HAT.bit();
+
+        assertThat(BasketOptimizer.optimize(createCoverages(), basketWithHat, 3)).isEmpty();
+    }
+}
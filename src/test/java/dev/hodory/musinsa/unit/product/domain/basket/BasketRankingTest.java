@@ -0,0 +1,61 @@
+package dev.hodory.musinsa.unit.product.domain.basket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.basket.BasketRanking;
+import dev.hodory.musinsa.product.domain.basket.BrandCoverage;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BasketRanking Unit 테스트")
+class BasketRankingTest {
+
+    private ProductInfo createProductInfo(Long brandId, CategoryInfo category, Long price) {
+        return ProductInfo.builder()
+            .brandId(brandId)
+            .brandName("Brand" + brandId)
+            .categoryId((long) category.ordinal() + 1)
+            .categoryName(category.getTitle())
+            .price(price)
+            .build();
+    }
+
+    @Test
+    @DisplayName("조합을 모두 가진 브랜드를 합계 오름차순, 브랜드 ID 오름차순으로 N개 선택한다")
+    void shouldSelectTopBrandsByTotalPrice() {
+        // Given
+        List<BrandCoverage> coverages = BrandCoverage.of(List.of(
+            createProductInfo(1L, CategoryInfo.TOP, 3000L),
+            createProductInfo(1L, CategoryInfo.BAG, 3000L),
+            createProductInfo(2L, CategoryInfo.TOP, 1000L),
+            createProductInfo(3L, CategoryInfo.TOP, 2000L),
+            createProductInfo(3L, CategoryInfo.BAG, 1000L),
+            createProductInfo(4L, CategoryInfo.TOP, 1500L),
+            createProductInfo(4L, CategoryInfo.BAG, 1500L),
+            createProductInfo(5L, CategoryInfo.TOP, 5000L),
+            createProductInfo(5L, CategoryInfo.BAG, 5000L)));
+
+        int basket = CategoryInfo.maskOf(EnumSet.of(CategoryInfo.TOP, CategoryInfo.BAG));
+
+        // When
+        List<BrandCoverage> result = BasketRanking.top(coverages, basket, 3);
+
+        // Then
+        assertThat(result).extracting(BrandCoverage::getBrandId).containsExactly(3L, 4L, 1L);
+    }
+
+    @Test
+    @DisplayName("조합을 모두 가진 브랜드가 없으면 빈 리스트를 반환한다")
+    void shouldReturnEmptyWhenNoBrandCoversBasket() {
+        // Given
+        List<BrandCoverage> coverages = BrandCoverage.of(List.of(
+            createProductInfo(1L, CategoryInfo.TOP, 1000L)));
+
+        // When & Then
+        assertThat(BasketRanking.top(coverages, CategoryInfo.HAT.bit(), 5)).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.hodory.musinsa.unit.product.domain.basket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.basket.BrandCoverage;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BrandCoverage Unit 테스트")
+class BrandCoverageTest {
+
+    private ProductInfo createProductInfo(Long brandId, CategoryInfo category, Long price) {
+        return ProductInfo.builder()
+            .brandId(brandId)
+            .brandName("Brand" + brandId)
+            .categoryId((long) category.ordinal() + 1)
+            .categoryName(category.getTitle())
+            .price(price)
+            .build();
+    }
+
+    @Test
+    @DisplayName("브랜드가 상품을 가진 카테고리 조합만 커버한다")
+    void shouldCoverOnlyRegisteredCategories() {
+        // Given
+        List<BrandCoverage> coverages = BrandCoverage.of(List.of(
+            createProductInfo(1L, CategoryInfo.TOP, 1000L),
+            createProductInfo(1L, CategoryInfo.PANTS, 2000L),
+            createProductInfo(2L, CategoryInfo.TOP, 500L)));
+
+        int basket = CategoryInfo.maskOf(EnumSet.of(CategoryInfo.TOP, CategoryInfo.PANTS));
+
+        // When & Then
+        assertThat(coverages).hasSize(2);
+        assertThat(coverages.get(0).covers(basket)).isTrue();
+        assertThat(coverages.get(1).covers(basket)).isFalse();
+        assertThat(coverages.get(1).covers(CategoryInfo.TOP.bit())).isTrue();
+    }
+
+    @Test
+    @DisplayName("카테고리 조합의 최저가 합계와 상품을 카테고리 순서로 반환한다")
+    void shouldReturnTotalPriceAndProductsInCategoryOrder() {
+        // Given
+        BrandCoverage coverage = BrandCoverage.of(List.of(
+            createProductInfo(1L, CategoryInfo.SNEAKERS, 9000L),
+            createProductInfo(1L, CategoryInfo.TOP, 1000L),
+            createProductInfo(1L, CategoryInfo.HAT, 1500L))).get(0);
+
+        int basket = CategoryInfo.maskOf(EnumSet.of(CategoryInfo.SNEAKERS, CategoryInfo.TOP));
+
+        // When & Then
+        assertThat(coverage.totalPrice(basket)).isEqualTo(10000L);
+        assertThat(coverage.products(basket))
+            .extracting(ProductInfo::getCategoryName)
+            .containsExactly(CategoryInfo.TOP.getTitle(), CategoryInfo.SNEAKERS.getTitle());
+    }
+}
@@ -0,0 +1,74 @@
+package dev.hodory.musinsa.unit.product.domain.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot.CategoryRange;
+import java.util.List;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CatalogSnapshot Unit 테스트")
+class CatalogSnapshotTest {
+
+    private ProductPriceRange range(Long brandId, String brandName, Long categoryId,
+        String categoryName, Long minPrice, Long maxPrice, Long lowestProductId) {
+        return ProductPriceRange.builder()
+            .brandId(brandId)
+            .brandName(brandName)
+            .categoryId(categoryId)
+            .categoryName(categoryName)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .lowestProductId(lowestProductId)
+            .build();
+    }
+
+    private final List<ProductPriceRange> ranges = List.of(
+        range(1L, "A", 1L, "상의", 11200L, 11200L, 1L),
+        range(2L, "B", 1L, "상의", 10000L, 12000L, 9L),
+        range(1L, "A", 4L, "스니커즈", 9000L, 9000L, 40L),
+        range(2L, "B", 4L, "스니커즈", 9000L, 9500L, 35L));
+
+    @Test
+    @DisplayName("카테고리별 최저가는 같은 가격이면 DB 조회와 같이 상품 ID가 가장 큰 상품으로 정한다")
+    void shouldPickLargestProductIdForTiedLowestPrice() {
+        // When
+        final CatalogSnapshot snapshot = CatalogSnapshot.of(7L, ranges);
+
+        // Then
+        assertThat(snapshot.getVersion()).isEqualTo(7L);
+        assertThat(snapshot.getLowestPerCategory())
+            .extracting(ProductInfo::getCategoryName, ProductInfo::getBrandName, ProductInfo::getPrice)
+            .containsExactly(Tuple.tuple("상의", "B", 10000L), Tuple.tuple("스니커즈", "A", 9000L));
+    }
+
+    @Test
+    @DisplayName("카테고리의 최저가, 최고가 브랜드를 같은 가격이면 모두 담는다")
+    void shouldContainAllBrandsWithSamePrice() {
+        // When
+        final CategoryRange range = CatalogSnapshot.of(7L, ranges).findCategoryRange("스니커즈")
+            .orElseThrow();
+
+        // Then
+        assertThat(range.lowest()).extracting(ProductInfo::getBrandName).containsExactly("A", "B");
+        assertThat(range.highest()).extracting(ProductInfo::getBrandName, ProductInfo::getPrice)
+            .containsExactly(Tuple.tuple("B", 9500L));
+    }
+
+    @Test
+    @DisplayName("브랜드별 커버리지는 카테고리별 최저가로 만든다")
+    void shouldBuildCoveragesFromMinimumPrices() {
+        // When
+        final CatalogSnapshot snapshot = CatalogSnapshot.of(7L, ranges);
+
+        // Then
+        assertThat(snapshot.getCoverages()).hasSize(2);
+        assertThat(snapshot.getCoverages().get(1).getBrandName()).isEqualTo("B");
+        assertThat(snapshot.getCoverages().get(1).totalPrice(0b1001)).isEqualTo(19000L);
+        assertThat(snapshot.findCategoryRange("바지")).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package dev.hodory.musinsa.unit.product.domain.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.hodory.musinsa.product.domain.stats.PriceQuantileSketch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PriceQuantileSketch Unit 테스트")
+class PriceQuantileSketchTest {
+
+    private static final double[] QUANTILES = {0.0, 0.5, 0.9, 0.99, 1.0};
+
+    private long exactQuantile(List<Long> sorted, double quantile) {
+        return sorted.get((int) Math.floor(quantile * (sorted.size() - 1)));
+    }
+
+    private void assertWithinRelativeAccuracy(PriceQuantileSketch sketch, List<Long> prices) {
+        List<Long> sorted = new ArrayList<>(prices);
+        Collections.sort(sorted);
+
+        Long[] estimates = sketch.quantiles(QUANTILES);
+        for (int i = 0; i < QUANTILES.length; i++) {
+            long exact = exactQuantile(sorted, QUANTILES[i]);
+            assertThat((double) estimates[i])
+                .isCloseTo(exact, within(exact * PriceQuantileSketch.RELATIVE_ACCURACY + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("분위수를 상대 오차 이내로 근사한다")
+    void shouldEstimateQuantilesWithinRelativeAccuracy() {
+        // Given
+        Random random = new Random(42);
+        PriceQuantileSketch sketch = new PriceQuantileSketch();
+        List<Long> prices = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long price = 100 + (long) (random.nextDouble() * random.nextDouble() * 500_000);
+            prices.add(price);
+            sketch.add(price, 1);
+        }
+
+        // When & Then
+        assertThat(sketch.count()).isEqualTo(10_000);
+        assertWithinRelativeAccuracy(sketch, prices);
+    }
+
+    @Test
+    @DisplayName("삭제한 가격은 분위수 계산에서 제외된다")
+    void shouldExcludeRemovedPrices() {
+        // Given
+        PriceQuantileSketch sketch = new PriceQuantileSketch();
+        List<Long> prices = new ArrayList<>();
+        for (long price = 1_000; price <= 100_000; price += 1_000) {
+            sketch.add(price, 1);
+            prices.add(price);
+        }
+
+        // When
+        for (long price = 51_000; price <= 100_000; price += 1_000) {
+            sketch.remove(price, 1);
+            prices.remove(price);
+        }
+
+        // Then
+        assertThat(sketch.count()).isEqualTo(50);
+        assertWithinRelativeAccuracy(sketch, prices);
+    }
+
+    @Test
+    @DisplayName("두 스케치를 합치면 전체 가격의 분위수를 근사한다")
+    void shouldMergeSketches() {
+        // Given
+        PriceQuantileSketch left = new PriceQuantileSketch();
+        PriceQuantileSketch right = new PriceQuantileSketch();
+        List<Long> prices = new ArrayList<>();
+        for (long price = 1; price <= 1_000; price++) {
+            (price % 2 == 0 ? left : right).add(price * 100, 1);
+            prices.add(price * 100);
+        }
+
+        // When
+        left.merge(right);
+
+        // Then
+        assertThat(left.count()).isEqualTo(1_000);
+        assertWithinRelativeAccuracy(left, prices);
+    }
+
+    @Test
+    @DisplayName("비어 있는 스케치의 분위수는 null 이다")
+    void shouldReturnNullWhenEmpty() {
+        assertThat(new PriceQuantileSketch().quantiles(0.5)).containsExactly((Long) null);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.hodory.musinsa.unit.product.domain.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.brand.domain.dto.BrandProductDTO;
+import dev.hodory.musinsa.product.domain.dto.LowestPriceChangeDTO;
+import dev.hodory.musinsa.product.domain.dto.LowestProductPerCategoryDTO;
+import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
+import dev.hodory.musinsa.product.domain.stream.LowestPriceState;
+import org.assertj.core.groups.Tuple;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LowestPriceState Unit 테스트")
+class LowestPriceStateTest {
+
+    private LowestPriceProductDTO lowestPrice(String category, String brand, Long price) {
+        return LowestPriceProductDTO.builder().category(category).brand(brand).price(price).build();
+    }
+
+    private BrandProductDTO lowestBrand(String brandName, Long totalPrice) {
+        return BrandProductDTO.builder()
+            .brandName(brandName)
+            .categoryProduct(List.of())
+            .totalPrice(totalPrice)
+            .build();
+    }
+
+    @Test
+    @DisplayName("최저가가 바뀐 카테고리만 변경분에 포함한다")
+    void shouldContainOnlyChangedCategories() {
+        // Given
+        LowestPriceState previous = LowestPriceState.of(List.of(
+            lowestPrice("상의", "C", 10000L),
+            lowestPrice("바지", "D", 3000L)), lowestBrand("D", 36100L));
+        LowestPriceState next = LowestPriceState.of(List.of(
+            lowestPrice("상의", "C", 10000L),
+            lowestPrice("바지", "A", 2900L)), lowestBrand("D", 36100L));
+
+        // When
+        Optional<LowestPriceChangeDTO> change = next.changesSince(previous);
+
+        // Then
+        assertThat(change).isPresent();
+        assertThat(change.get().getCategories())
+            .extracting(LowestProductPerCategoryDTO::getCategory, LowestProductPerCategoryDTO::getBrand)
+            .containsExactly(Tuple.tuple("바지", "A"));
+        assertThat(change.get().getLowestBrand()).isNull();
+    }
+
+    @Test
+    @DisplayName("최저가 브랜드가 바뀌면 변경분에 포함한다")
+    void shouldContainLowestBrandWhenChanged() {
+        // Given
+        LowestPriceState previous = LowestPriceState.of(
+            List.of(lowestPrice("상의", "C", 10000L)), lowestBrand("D", 36100L));
+        LowestPriceState next = LowestPriceState.of(
+            List.of(lowestPrice("상의", "C", 10000L)), lowestBrand("C", 36000L));
+
+        // When
+        Optional<LowestPriceChangeDTO> change = next.changesSince(previous);
+
+        // Then
+        assertThat(change).isPresent();
+        assertThat(change.get().getCategories()).isEmpty();
+        assertThat(change.get().getLowestBrand().getBrandName()).isEqualTo("C");
+    }
+
+    @Test
+    @DisplayName("상품이 모두 삭제된 카테고리는 removed_categories에 포함한다")
+    void shouldContainRemovedCategories() {
+        // Given
+        LowestPriceState previous = LowestPriceState.of(List.of(
+            lowestPrice("상의", "C", 10000L),
+            lowestPrice("모자", "D", 1500L)), null);
+        LowestPriceState next = LowestPriceState.of(
+            List.of(lowestPrice("상의", "C", 10000L)), null);
+
+        // When
+        Optional<LowestPriceChangeDTO> change = next.changesSince(previous);
+
+        // Then
+        assertThat(change).isPresent();
+        assertThat(change.get().getRemovedCategories()).containsExactly("모자");
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 빈 값을 반환한다")
+    void shouldReturnEmptyWhenNothingChanged() {
+        // Given
+        LowestPriceState previous = LowestPriceState.of(
+            List.of(lowestPrice("상의", "C", 10000L)), lowestBrand("D", 36100L));
+        LowestPriceState next = LowestPriceState.of(
+            List.of(lowestPrice("상의", "C", 10000L)), lowestBrand("D", 36100L));
+
+        // When & Then
+        assertThat(next.changesSince(previous)).isEmpty();
+    }
+}
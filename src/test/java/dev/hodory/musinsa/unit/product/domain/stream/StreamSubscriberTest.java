@@ -0,0 +1,109 @@
+package dev.hodory.musinsa.unit.product.domain.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.product.domain.stream.StreamSubscriber;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("StreamSubscriber Unit 테스트")
+class StreamSubscriberTest {
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(2);
+    private final List<StreamSubscriber> closed = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * 전송한 이벤트 수를 세고, latch가 열릴 때까지 전송을 멈출 수 있는 연결입니다.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sent;
+
+        RecordingEmitter(CountDownLatch release, int expected) {
+            this.release = release;
+            this.sent = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            sent.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("느린 구독자가 전송 중이어도 다른 구독자는 바로 이벤트를 받는다")
+    void shouldNotDelayOtherSubscribers() throws Exception {
+        // Given
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final RecordingEmitter slowEmitter = new RecordingEmitter(blocked, 1);
+        final RecordingEmitter fastEmitter = new RecordingEmitter(new CountDownLatch(0), 1);
+        final StreamSubscriber slow = new StreamSubscriber(slowEmitter, sender, 4, closed::add);
+        final StreamSubscriber fast = new StreamSubscriber(fastEmitter, sender, 4, closed::add);
+
+        // When
+        slow.send("change", "{}");
+        fast.send("change", "{}");
+
+        // Then
+        assertThat(fastEmitter.sent.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowEmitter.sent.getCount()).isEqualTo(1);
+        blocked.countDown();
+        assertThat(slowEmitter.sent.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("전송을 기다리는 이벤트가 최대치를 넘으면 연결을 닫는다")
+    void shouldCloseWhenPendingOverflows() {
+        // Given: 전송이 실행되지 않는 전송 스레드
+        final StreamSubscriber subscriber = new StreamSubscriber(
+            new RecordingEmitter(new CountDownLatch(0), 0), runnable -> {
+            }, 2, closed::add);
+
+        // When
+        subscriber.send("change", "{}");
+        subscriber.heartbeat();
+        subscriber.send("change", "{}");
+
+        // Then
+        assertThat(closed).containsExactly(subscriber);
+    }
+
+    @Test
+    @DisplayName("전송이 제한 시간을 넘기면 멈춘 구독자로 판단한다")
+    void shouldDetectStalledSend() throws Exception {
+        // Given
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final StreamSubscriber subscriber = new StreamSubscriber(
+            new RecordingEmitter(blocked, 1), sender, 4, closed::add);
+        assertThat(subscriber.isStalled(System.nanoTime(), 0)).isFalse();
+
+        // When
+        subscriber.heartbeat();
+        Thread.sleep(50);
+
+        // Then
+        assertThat(subscriber.isStalled(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(10)))
+            .isTrue();
+        blocked.countDown();
+    }
+}
@@ -0,0 +1,54 @@
+package dev.hodory.musinsa.unit.product.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.hodory.musinsa.product.jfr.ProductQueryEvent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductQueryEventTest {
+
+    private static final String EVENT_NAME = "dev.hodory.musinsa.ProductQuery";
+
+    private List<RecordedEvent> record(boolean enabled) throws Exception {
+        final Path file = Files.createTempFile("product-query", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enabled) {
+                recording.enable(EVENT_NAME);
+            }
+            recording.start();
+
+            ProductQueryEvent.start("findLowestPricePerCategory").finish(8);
+
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 이벤트가 기록되지 않습니다.")
+    void disabledByDefault() throws Exception {
+        assertThat(record(false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이벤트를 활성화하면 쿼리 이름과 행의 수가 기록됩니다.")
+    void recordedWhenEnabled() throws Exception {
+        final List<RecordedEvent> events = record(true);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("queryName")).isEqualTo("findLowestPricePerCategory");
+        assertThat(events.get(0).getInt("rowCount")).isEqualTo(8);
+    }
+}
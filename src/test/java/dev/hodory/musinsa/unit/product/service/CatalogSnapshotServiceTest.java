@@ -0,0 +1,132 @@
+package dev.hodory.musinsa.unit.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hodory.musinsa.brand.event.BrandRenamed;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.common.event.DomainEvent;
+import dev.hodory.musinsa.product.domain.projection.ProductInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceRange;
+import dev.hodory.musinsa.product.domain.snapshot.CatalogSnapshot;
+import dev.hodory.musinsa.product.event.ProductPriceChanged;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import dev.hodory.musinsa.product.service.CatalogSnapshotProperties;
+import dev.hodory.musinsa.product.service.CatalogSnapshotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("CatalogSnapshotService Unit 테스트")
+class CatalogSnapshotServiceTest {
+
+    private ProductRepository productRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        when(productRepository.findPriceRangeGroupByBrandIdAndCategoryId()).thenReturn(List.of(
+            range(1L, "A", 1000L), range(2L, "B", 2000L)));
+
+        final CatalogSnapshotProperties properties = new CatalogSnapshotProperties();
+        properties.setMinVersionWait(Duration.ofSeconds(1));
+        properties.setQuietPeriod(Duration.ofMillis(50));
+        properties.setMaxDelay(Duration.ofMillis(500));
+        meterRegistry = new SimpleMeterRegistry();
+        catalogSnapshotService = new CatalogSnapshotService(productRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), properties,
+            meterRegistry);
+        catalogSnapshotService.load(5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogSnapshotService.destroy();
+    }
+
+    private static ProductPriceRange range(Long brandId, String brandName, Long price) {
+        return ProductPriceRange.builder()
+            .brandId(brandId)
+            .brandName(brandName)
+            .categoryId(1L)
+            .categoryName(CategoryInfo.TOP.getTitle())
+            .minPrice(price)
+            .maxPrice(price)
+            .build();
+    }
+
+    @Test
+    @DisplayName("현재 스냅샷이 요청한 버전 이상이면 기다리지 않고 반환한다")
+    void shouldReturnCurrentSnapshotWhenVersionReached() {
+        assertThat(catalogSnapshotService.awaitVersion(5L))
+            .map(CatalogSnapshot::getVersion)
+            .contains(5L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 요청한 버전으로 교체되면 기다리던 조회가 새 스냅샷을 반환한다")
+    void shouldReturnSnapshotOnceReplaced() throws Exception {
+        // Given
+        final CompletableFuture<Optional<CatalogSnapshot>> waiting =
+            CompletableFuture.supplyAsync(() -> catalogSnapshotService.awaitVersion(7L));
+
+        // When
+        catalogSnapshotService.onEvents(List.of(new BrandRenamed(1L, "A", "B")), 7L);
+
+        // Then
+        assertThat(waiting.get(1, TimeUnit.SECONDS))
+            .map(CatalogSnapshot::getVersion)
+            .contains(7L);
+    }
+
+    @Test
+    @DisplayName("기다리는 동안 요청한 버전에 도달하지 못하면 empty를 반환한다")
+    void shouldReturnEmptyWhenVersionNotReached() {
+        // When
+        catalogSnapshotService.onEvents(List.of(new BrandRenamed(1L, "A", "B")), 6L);
+
+        // Then
+        assertThat(catalogSnapshotService.awaitVersion(7L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연속된 변경은 한 번만 다시 집계하고, 변경된 셀만 새 값으로 바꾼다")
+    void shouldCoalesceWritesAndRecomputeOnlyDirtyCells() throws Exception {
+        // Given
+        when(productRepository.findPriceRangeByBrandIdInAndCategoryCodeIn(anyCollection(),
+            anyCollection())).thenReturn(List.of(range(1L, "A", 3000L)));
+
+        // When
+        IntStream.rangeClosed(6, 105).forEach(version -> catalogSnapshotService.onEvents(
+            List.<DomainEvent>of(new ProductPriceChanged(1L, 1L, CategoryInfo.TOP, 1000L, 3000L)),
+            version));
+
+        // Then
+        assertThat(meterRegistry.get(CatalogSnapshotService.DIRTY_CELLS_METRIC).gauge().value())
+            .isEqualTo(1.0);
+        final CatalogSnapshot snapshot = catalogSnapshotService.awaitVersion(105L).orElseThrow();
+        assertThat(snapshot.getVersion()).isEqualTo(105L);
+        assertThat(snapshot.getLowestPerCategory())
+            .extracting(ProductInfo::getBrandName, ProductInfo::getPrice)
+            .containsExactly(tuple("B", 2000L));
+        verify(productRepository, times(1))
+            .findPriceRangeByBrandIdInAndCategoryCodeIn(anyCollection(), anyCollection());
+    }
+}
@@ -0,0 +1,60 @@
+package dev.hodory.musinsa.unit.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.hodory.musinsa.brand.domain.entity.Brand;
+import dev.hodory.musinsa.brand.repository.BrandRepository;
+import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
+import dev.hodory.musinsa.product.domain.projection.ProductPriceCount;
+import dev.hodory.musinsa.product.event.ProductCreated;
+import dev.hodory.musinsa.product.repository.ProductRepository;
+import dev.hodory.musinsa.product.service.PriceQuantileService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PriceQuantileService Unit 테스트")
+class PriceQuantileServiceTest {
+
+    private PriceQuantileService priceQuantileService;
+
+    @BeforeEach
+    void setUp() {
+        final ProductRepository productRepository = mock(ProductRepository.class);
+        final BrandRepository brandRepository = mock(BrandRepository.class);
+        when(productRepository.findPriceCounts()).thenReturn(List.of(ProductPriceCount.builder()
+            .brandId(1L).category(CategoryInfo.TOP).price(1000L).count(1L).build()));
+        when(brandRepository.findById(2L))
+            .thenReturn(Optional.of(Brand.builder().id(2L).name("B").build()));
+        priceQuantileService = new PriceQuantileService(productRepository, brandRepository);
+        priceQuantileService.load(5L);
+    }
+
+    private long topCount() {
+        return priceQuantileService.getCategoryQuantiles(CategoryInfo.TOP.getTitle()).getCount();
+    }
+
+    @Test
+    @DisplayName("배치 도중 실패하면 앞의 이벤트도 반영하지 않아, 같은 배치를 다시 전달받아도 두 번 반영하지 않는다")
+    void shouldNotDoubleCountRetriedBatch() {
+        // Given: 두 번째 이벤트의 카테고리가 없어 배치 처리가 실패한다
+        final ProductCreated created = new ProductCreated(2L, 2L, CategoryInfo.TOP, 2000L);
+        assertThatThrownBy(() -> priceQuantileService.onEvents(
+            List.of(created, new ProductCreated(3L, 2L, null, 3000L)), 6L))
+            .isInstanceOf(NullPointerException.class);
+        assertThat(topCount()).isEqualTo(1);
+        assertThat(priceQuantileService.getBrandQuantiles(2L).getCount()).isZero();
+
+        // When: 릴레이가 같은 위치의 배치를 다시 전달한다
+        priceQuantileService.onEvents(List.of(created), 6L);
+
+        // Then
+        assertThat(topCount()).isEqualTo(2);
+        assertThat(priceQuantileService.getBrandQuantiles(2L).getCount()).isEqualTo(1);
+    }
+}
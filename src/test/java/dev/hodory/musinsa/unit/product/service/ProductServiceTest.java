@@ -2,6 +2,7 @@ package dev.hodory.musinsa.unit.product.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
@@ -13,13 +14,19 @@ import dev.hodory.musinsa.product.domain.projection.LowestPriceProductDTO;
 import dev.hodory.musinsa.category.domain.entity.Category;
 import dev.hodory.musinsa.category.domain.enums.CategoryInfo;
 import dev.hodory.musinsa.category.repository.CategoryRepository;
+import dev.hodory.musinsa.common.cache.CacheVersionService;
+import dev.hodory.musinsa.common.concurrent.FanOutExecutor;
+import dev.hodory.musinsa.common.concurrent.FanOutProperties;
+import dev.hodory.musinsa.common.event.DomainEventPublisher;
 import dev.hodory.musinsa.product.domain.dto.ProductDTO;
 import dev.hodory.musinsa.product.domain.dto.ProductListDTO;
 import dev.hodory.musinsa.product.domain.dto.ProductLowestAndHighestDTO;
 import dev.hodory.musinsa.product.domain.entity.Product;
 import dev.hodory.musinsa.product.domain.projection.ProductInfo;
 import dev.hodory.musinsa.product.repository.ProductRepository;
+import dev.hodory.musinsa.product.service.CatalogSnapshotService;
 import dev.hodory.musinsa.product.service.ProductService;
+import dev.hodory.musinsa.product.shard.CategoryShardService;
 import dev.hodory.musinsa.unit.UnitServiceTestBase;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
@@ -30,6 +37,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DisplayName("ProductService의 Unit 테스트를 실행합니다.")
 class ProductServiceTest extends UnitServiceTestBase {
@@ -48,6 +59,24 @@ class ProductServiceTest extends UnitServiceTestBase {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Mock
+    private CategoryShardService categoryShardService;
+
+    @Mock
+    private CacheVersionService cacheVersionService;
+
+    @Spy
+    private FanOutExecutor fanOutExecutor = new FanOutExecutor(
+            new TaskExecutorAdapter(Runnable::run),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new FanOutProperties());
+
     private Product createProduct(Long id, Brand brand, Category category, Long price) {
         return Product.builder()
                 .id(id)